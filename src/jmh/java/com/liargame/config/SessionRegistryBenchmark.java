@@ -0,0 +1,77 @@
+package com.liargame.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocketConfig 세션 조회/재등록 비용 (세션 1k/10k/100k)
+ * 짝수 플레이어는 연결 해제 후 유예 기간 상태로 두어 재연결 경로도 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SessionRegistryBenchmark {
+
+    private static final int PLAYERS_PER_ROOM = 8;
+
+    @Param({"1000", "10000", "100000"})
+    public int sessions;
+
+    private WebSocketConfig registry;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        registry = new WebSocketConfig();
+        inject("meterRegistry", new SimpleMeterRegistry());
+        // 기본(platform) 모드 - 만료 처리는 타이머 스레드에서 그대로 실행
+        inject("threadingMode", new ThreadingMode());
+        registry.startSessionExpiry();
+
+        for (int i = 0; i < sessions; i++) {
+            registry.registerSessionPlayer(sessionId(i), roomCode(i), (long) i);
+            if (i % 2 == 0) {
+                registry.handleWebSocketDisconnectListener(new SessionDisconnectEvent(this,
+                        MessageBuilder.withPayload(new byte[0]).build(), sessionId(i), CloseStatus.NORMAL));
+            }
+        }
+    }
+
+    private void inject(String name, Object value) throws ReflectiveOperationException {
+        Field field = WebSocketConfig.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(registry, value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registry.stopSessionExpiry();
+    }
+
+    @Benchmark
+    public boolean canPlayerReconnect() {
+        int i = ThreadLocalRandom.current().nextInt(sessions);
+        return registry.canPlayerReconnect(roomCode(i), (long) i);
+    }
+
+    // 연결 중인 플레이어가 같은 세션으로 다시 등록 (상태 크기는 유지)
+    @Benchmark
+    public void reRegisterConnected() {
+        int i = ThreadLocalRandom.current().nextInt(sessions / 2) * 2 + 1;
+        registry.registerSessionPlayer(sessionId(i), roomCode(i), (long) i);
+    }
+
+    private static String sessionId(int i) {
+        return "session-" + i;
+    }
+
+    private static String roomCode(int i) {
+        return "ROOM" + (i / PLAYERS_PER_ROOM);
+    }
+}
@@ -0,0 +1,37 @@
+package com.liargame.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 코드 생성 비용 (DB 왕복 제외)
+ * 예전 방식(호출마다 new Random 후 무작위 8자리, 이후 existsByCode 확인)과
+ * RoomCodeAllocator 가 쓰는 카운터 키 순열 변환을 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RoomCodeBenchmark {
+
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private final RoomCodePermutation permutation = new RoomCodePermutation("benchmark");
+    private long counter;
+
+    @Benchmark
+    public String newRandomPerCall() {
+        Random random = new Random();
+        StringBuilder code = new StringBuilder(8);
+        for (int i = 0; i < 8; i++) {
+            code.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return code.toString();
+    }
+
+    @Benchmark
+    public String keyedPermutation() {
+        return permutation.encode(counter++ % RoomCodePermutation.SIZE);
+    }
+}
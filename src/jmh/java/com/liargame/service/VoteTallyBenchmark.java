@@ -0,0 +1,75 @@
+package com.liargame.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 일반 투표 결과 판정 비용
+ * processInitialVoteResult 의 이전 방식(대상별 groupingBy -> Object[] 정렬 -> 과반/동점 확인)과
+ * VoteTally 증분 집계를 같은 투표 분포로 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VoteTallyBenchmark {
+
+    @Param({"6", "12"})
+    public int players;
+
+    private long[] voters;
+    private long[] targets;
+
+    @Setup
+    public void setUp() {
+        voters = new long[players];
+        targets = new long[players];
+        for (int i = 0; i < players; i++) {
+            voters[i] = i;
+            // 대부분 두 명에게 몰리고 나머지는 흩어지는 분포
+            targets[i] = i % 3 == 0 ? (i + 1) % players : (i % 2 == 0 ? 1 : 2);
+        }
+    }
+
+    @Benchmark
+    public Object groupingBaseline() {
+        List<long[]> votes = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            votes.add(new long[]{voters[i], targets[i]});
+        }
+
+        Map<Long, Long> counts = votes.stream()
+                .collect(Collectors.groupingBy(v -> v[1], Collectors.counting()));
+        List<Object[]> voteCounts = counts.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue()})
+                .collect(Collectors.toList());
+
+        int requiredVotes = (players / 2) + 1;
+        voteCounts.sort((a, b) -> ((Long) b[1]).compareTo((Long) a[1]));
+        Optional<Object[]> majority = voteCounts.stream()
+                .filter(v -> ((Long) v[1]).intValue() >= requiredVotes)
+                .findFirst();
+        if (majority.isPresent()) {
+            return majority.get()[0];
+        }
+        int top = ((Long) voteCounts.get(0)[1]).intValue();
+        long topCounters = voteCounts.stream().filter(v -> ((Long) v[1]).intValue() == top).count();
+        return top >= 2 && topCounters == 1 ? voteCounts.get(0)[0] : null;
+    }
+
+    @Benchmark
+    public Object incrementalTally() {
+        VoteTally tally = new VoteTally(players);
+        for (int i = 0; i < players; i++) {
+            tally.record(voters[i], targets[i], null);
+        }
+        VoteTally.Outcome outcome = tally.outcome();
+        return outcome == VoteTally.Outcome.MAJORITY || outcome == VoteTally.Outcome.PLURALITY
+                ? tally.getLeaderId() : null;
+    }
+}
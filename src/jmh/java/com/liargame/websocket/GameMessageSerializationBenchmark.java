@@ -0,0 +1,88 @@
+package com.liargame.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.liargame.domain.dto.GameStateResponse;
+import com.liargame.domain.dto.RoomStateDelta;
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.Round;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 상태 브로드캐스트 직렬화 비용 (12인 방, 라운드 후반 발언 36건 기준)
+ * 전체 상태(ROOM_STATE_UPDATE)와 델타(ROOM_STATE_DELTA)를 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GameMessageSerializationBenchmark {
+
+    @Param({"6", "12"})
+    public int players;
+
+    private ObjectMapper objectMapper;
+    private GameMessage fullState;
+    private GameMessage delta;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 같게 날짜는 ISO 문자열
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GameStateResponse.PlayerInfo> playerInfos = new ArrayList<>();
+        List<GameStateResponse.MessageInfo> messages = new ArrayList<>();
+        List<GameStateResponse.VoteInfo> votes = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            playerInfos.add(GameStateResponse.PlayerInfo.builder()
+                    .playerId((long) i).nickname("player-" + i).isHost(i == 0).isAlive(i % 4 != 3)
+                    .orderNo(i + 1).role(i == 0 ? "LIAR" : "CITIZEN").cardWord("사과").isCurrentTurn(false)
+                    .build());
+            votes.add(GameStateResponse.VoteInfo.builder()
+                    .targetPlayerId((long) i).targetNickname("player-" + i).voteCount(1).isFinalVote(false)
+                    .build());
+        }
+        for (int i = 0; i < players * 3; i++) {
+            messages.add(GameStateResponse.MessageInfo.builder()
+                    .playerId((long) (i % players)).nickname("player-" + (i % players))
+                    .text("빨갛고 둥글며 과일 가게에서 흔히 볼 수 있어요 " + i).type("DESC").createdAt(now)
+                    .build());
+        }
+
+        GameStateResponse state = GameStateResponse.builder()
+                .stateSeq(42L).roomCode("AB12CD34").roomState(GameRoom.RoomState.ROUND)
+                .maxPlayers(12).roundLimit(3).currentRound(3).themeGroup("과일").createdAt(now)
+                .roundState(Round.RoundState.VOTE).roundStartedAt(now)
+                .players(playerInfos).votes(votes).messages(messages)
+                .build();
+        fullState = GameMessage.of("ROOM_STATE_UPDATE", "AB12CD34", state);
+
+        RoomStateDelta stateDelta = RoomStateDelta.builder()
+                .seq(43L).baseSeq(42L)
+                .playersUpserted(List.of(playerInfos.get(1)))
+                .messagesAdded(List.of(messages.get(0)))
+                .changes(Map.of("roundState", Round.RoundState.FINAL_DEFENSE))
+                .build();
+        delta = GameMessage.of("ROOM_STATE_DELTA", "AB12CD34", stateDelta);
+    }
+
+    @Benchmark
+    public byte[] serializeFullState() throws Exception {
+        return objectMapper.writeValueAsBytes(fullState);
+    }
+
+    @Benchmark
+    public byte[] serializeDelta() throws Exception {
+        return objectMapper.writeValueAsBytes(delta);
+    }
+}
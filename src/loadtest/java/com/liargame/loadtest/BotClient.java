@@ -0,0 +1,124 @@
+package com.liargame.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 봇들이 함께 쓰는 REST/STOMP 클라이언트
+ * 브라우저 클라이언트와 같은 경로(/api/rooms REST, SockJS /ws 위의 STOMP)만 사용한다.
+ */
+final class BotClient implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BotClient.class);
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    // 게임 시작 메시지처럼 방 상태 전체가 실린 프레임도 한 번에 받을 수 있도록
+    private static final int MAX_MESSAGE_BYTES = 512 * 1024;
+
+    private final String baseUrl;
+    private final long timeoutMs;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final WebSocketStompClient stompClient;
+
+    BotClient(String baseUrl, long timeoutMs) {
+        this.baseUrl = baseUrl;
+        this.timeoutMs = timeoutMs;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(MAX_MESSAGE_BYTES);
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient(container))));
+
+        this.stompClient = new WebSocketStompClient(sockJsClient);
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.stompClient.setInboundMessageSizeLimit(MAX_MESSAGE_BYTES);
+    }
+
+    /**
+     * JSON 본문(없으면 빈 본문)으로 POST - 200 이 아니면 서버가 준 오류 메시지로 예외
+     */
+    Map<String, Object> post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(timeoutMs));
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else {
+            request.POST(HttpRequest.BodyPublishers.noBody());
+        }
+
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 실패: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return response.body().isEmpty() ? Map.of() : objectMapper.readValue(response.body(), MAP_TYPE);
+    }
+
+    StompSession connect() throws Exception {
+        return stompClient.connectAsync(baseUrl.replaceFirst("^http", "ws") + "/ws", new SessionHandler())
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 관찰하지 않는 봇의 구독 - 서버의 팬아웃 부하만 만들고 메시지는 버린다
+    static StompFrameHandler discarding() {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        stompClient.stop();
+    }
+
+    private static final class SessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            log.warn("STOMP 프레임 처리 실패 ({}): {}", command, exception.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            log.warn("STOMP 연결 오류: {}", exception.getMessage());
+        }
+    }
+}
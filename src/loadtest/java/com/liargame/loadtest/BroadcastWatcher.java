@@ -0,0 +1,133 @@
+package com.liargame.loadtest;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 방 토픽(/topic/rooms/{code}) 구독 하나에서 기다리는 브로드캐스트를 맞춰 보는 관찰자
+ * 요청을 보내기 직전에 expect 로 조건을 등록하고, 조건에 맞는 첫 메시지가 도착하면
+ * 그 사이 경과 시간을 동작 이름으로 기록한다. 프레임 콜백은 웹소켓 클라이언트 스레드에서 호출된다.
+ */
+final class BroadcastWatcher implements StompFrameHandler {
+
+    private final LatencyRecorder recorder;
+    private final long timeoutMs;
+    private final List<Expectation> pending = new ArrayList<>();
+    private final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+
+    BroadcastWatcher(LatencyRecorder recorder, long timeoutMs) {
+        this.recorder = recorder;
+        this.timeoutMs = timeoutMs;
+    }
+
+    Expectation expect(String action, Predicate<Map<String, Object>> matcher) {
+        Expectation expectation = new Expectation(action, matcher);
+        synchronized (pending) {
+            pending.add(expectation);
+        }
+        return expectation;
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleFrame(StompHeaders headers, Object payload) {
+        long arrivedAt = System.nanoTime();
+        Map<String, Object> message = (Map<String, Object>) payload;
+        if (type(message) != null) {
+            received.computeIfAbsent(type(message), t -> new AtomicInteger()).incrementAndGet();
+        }
+
+        List<Expectation> matched = new ArrayList<>();
+        synchronized (pending) {
+            Iterator<Expectation> it = pending.iterator();
+            while (it.hasNext()) {
+                Expectation expectation = it.next();
+                if (expectation.matcher.test(message)) {
+                    it.remove();
+                    matched.add(expectation);
+                }
+            }
+        }
+        for (Expectation expectation : matched) {
+            recorder.record(expectation.action, arrivedAt - expectation.startedAt);
+            expectation.future.complete(message);
+        }
+    }
+
+    // 지금까지 받은 해당 종류 메시지 수
+    int count(String type) {
+        AtomicInteger count = received.get(type);
+        return count != null ? count.get() : 0;
+    }
+
+    private void abandon(Expectation expectation) {
+        synchronized (pending) {
+            pending.remove(expectation);
+        }
+        recorder.fail(expectation.action);
+    }
+
+    static String type(Map<String, Object> message) {
+        return (String) message.get("type");
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> data(Map<String, Object> message) {
+        Object data = message.get("data");
+        return data instanceof Map ? (Map<String, Object>) data : Map.of();
+    }
+
+    static Long number(Object value) {
+        return value instanceof Number n ? n.longValue() : null;
+    }
+
+    final class Expectation {
+        private final String action;
+        private final Predicate<Map<String, Object>> matcher;
+        private final long startedAt = System.nanoTime();
+        private final CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+
+        private Expectation(String action, Predicate<Map<String, Object>> matcher) {
+            this.action = action;
+            this.matcher = matcher;
+        }
+
+        /**
+         * 조건에 맞는 브로드캐스트를 기다림 - 제한 시간을 넘기면 실패로 기록하고 예외
+         */
+        Map<String, Object> await() throws InterruptedException {
+            try {
+                return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                abandon(this);
+                throw new IllegalStateException(action + " 브로드캐스트 대기 시간 초과 (" + timeoutMs + "ms)");
+            } catch (ExecutionException e) {
+                abandon(this);
+                throw new IllegalStateException(action + " 실패: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        // 요청 자체가 실패해 브로드캐스트를 기다릴 필요가 없을 때
+        void cancel() {
+            abandon(this);
+        }
+    }
+}
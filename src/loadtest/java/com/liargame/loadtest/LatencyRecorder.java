@@ -0,0 +1,129 @@
+package com.liargame.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동작별 지연 시간 수집과 보고
+ * 요청을 보낸 시점부터 해당 브로드캐스트를 받은 시점까지의 나노초를 그대로 모아 두었다가
+ * 끝난 뒤 한 번 정렬해서 p50/p95/p99 를 계산한다. 보고 순서는 동작이 처음 기록된 순서를 따른다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final AtomicLong gamesCompleted = new AtomicLong();
+    private final AtomicLong gamesFailed = new AtomicLong();
+
+    void record(String action, long nanos) {
+        samples(action).add(nanos);
+    }
+
+    void fail(String action) {
+        samples(action).fail();
+    }
+
+    void gameCompleted() {
+        gamesCompleted.incrementAndGet();
+    }
+
+    void gameFailed() {
+        gamesFailed.incrementAndGet();
+    }
+
+    long getGamesFailed() {
+        return gamesFailed.get();
+    }
+
+    void report(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        out.println();
+        out.printf("게임 %d건 완료, %d건 실패, 소요 %.1fs (%.2f games/s)%n",
+                gamesCompleted.get(), gamesFailed.get(), seconds, gamesCompleted.get() / seconds);
+        out.printf("%-22s %8s %6s %10s %9s %9s %9s %9s%n",
+                "action", "count", "fail", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        Map<String, Samples> copy;
+        synchronized (samples) {
+            copy = new LinkedHashMap<>(samples);
+        }
+        copy.forEach((action, s) -> {
+            long[] sorted = s.sorted();
+            out.printf("%-22s %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    action, sorted.length, s.failures(), sorted.length / seconds,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        });
+    }
+
+    static void printSummaryHeader(PrintStream out) {
+        out.printf("%-10s %9s %7s %10s %10s %9s %9s%n",
+                "mode", "games", "failed", "games/s", "ops/s", "p50(ms)", "p99(ms)");
+    }
+
+    // 실행 모드 비교용 한 줄 요약 (모든 동작을 합친 처리량과 지연)
+    void printSummary(PrintStream out, String label, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, Samples> copy;
+        synchronized (samples) {
+            copy = new LinkedHashMap<>(samples);
+        }
+        long[] all = copy.values().stream()
+                .map(Samples::sorted)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        out.printf("%-10s %9d %7d %10.2f %10.1f %9.2f %9.2f%n",
+                label, gamesCompleted.get(), gamesFailed.get(), gamesCompleted.get() / seconds,
+                all.length / seconds, millis(percentile(all, 50)), millis(percentile(all, 99)));
+    }
+
+    private Samples samples(String action) {
+        return samples.computeIfAbsent(action, a -> new Samples());
+    }
+
+    // nearest-rank 백분위
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Samples {
+        private long[] values = new long[256];
+        private int size;
+        private long failures;
+
+        synchronized void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized void fail() {
+            failures++;
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
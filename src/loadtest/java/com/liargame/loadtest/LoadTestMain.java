@@ -0,0 +1,123 @@
+package com.liargame.loadtest;
+
+import com.liargame.LiarGameApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 헤드리스 봇 부하 테스트
+ * 애플리케이션을 같은 프로세스에서 임의 포트로 띄우고, rooms 개의 방을 동시에 돌리며 각 방에서 games 판을 연달아 진행한다.
+ * 끝나면 동작별 처리량과 요청 -> 브로드캐스트 지연(p50/p95/p99)을 출력하고, 실패한 게임이 있으면 종료 코드 1.
+ * threadModes 에 여러 실행 모드를 주면 모드마다 애플리케이션을 새로 띄워 같은 부하를 돌리고 마지막에 비교표를 출력한다.
+ * scenario=vote-race 면 투표와 생존/사망 투표를 한꺼번에 보내, 방마다 결과가 정확히 한 번씩만 나오는지 검사한다.
+ *
+ * ./gradlew loadTest -Prooms=50 -Pplayers=6 -Pgames=3 -PtimeoutMs=10000
+ * ./gradlew loadTest -Prooms=20 -Pplayers=12 -Pgames=5 -Pscenario=vote-race
+ * ./gradlew loadTest -Prooms=1667 -Pplayers=6 -PthreadModes=platform,virtual   (동시 접속 약 1만 명, Java 21)
+ */
+public class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    public static void main(String[] args) throws Exception {
+        int rooms = Integer.getInteger("loadtest.rooms", 20);
+        int players = Integer.getInteger("loadtest.players", 6);
+        int games = Integer.getInteger("loadtest.games", 1);
+        long timeoutMs = Long.getLong("loadtest.timeoutMs", 10000L);
+        List<String> threadModes = List.of(System.getProperty("loadtest.threadModes", "platform").split(","));
+        boolean voteRace = "vote-race".equals(System.getProperty("loadtest.scenario", "lifecycle"));
+
+        if (players < 3 || players > 12) {
+            throw new IllegalArgumentException("players 는 3~12 사이여야 합니다: " + players);
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String mode : threadModes) {
+            results.put(mode.trim(), run(mode.trim(), rooms, players, games, timeoutMs, voteRace, args));
+        }
+
+        if (results.size() > 1) {
+            System.out.println();
+            System.out.printf("실행 모드 비교: 방 %d개 x %d판, 방당 %d명 (동시 접속 %d명)%n",
+                    rooms, games, players, rooms * players);
+            LatencyRecorder.printSummaryHeader(System.out);
+            results.forEach((mode, result) -> result.recorder.printSummary(System.out, mode, result.elapsedNanos));
+        }
+
+        boolean failed = results.values().stream().anyMatch(r -> r.recorder.getGamesFailed() > 0);
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static Result run(String mode, int rooms, int players, int games, long timeoutMs, boolean voteRace,
+                              String[] args) throws Exception {
+        // 명령행 인자가 application.yml 보다 우선하므로 로그 레벨은 여기서 낮춘다
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.liargame=WARN",
+                "--logging.level.org.springframework.messaging=WARN",
+                "--logging.level.org.springframework.web.socket=WARN",
+                "--liargame.threads.mode=" + mode,
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode)));
+        appArgs.addAll(List.of(args));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LiarGameApplication.class)
+                .run(appArgs.toArray(new String[0]));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        System.out.printf("부하 테스트 시작 [%s%s]: 방 %d개 x %d판, 방당 %d명, 포트 %d%n",
+                mode, voteRace ? ", vote-race" : "", rooms, games, players, port);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(rooms,
+                r -> new Thread(r, "loadtest-room-" + threadIndex.getAndIncrement()));
+
+        long started = System.nanoTime();
+        try (BotClient client = new BotClient("http://localhost:" + port, timeoutMs)) {
+            List<Future<?>> running = new ArrayList<>(rooms);
+            for (int r = 0; r < rooms; r++) {
+                int room = r;
+                running.add(pool.submit(() -> {
+                    for (int g = 0; g < games; g++) {
+                        try {
+                            new RoomBot(room * games + g, players, client, recorder, timeoutMs, voteRace).play();
+                            recorder.gameCompleted();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            recorder.gameFailed();
+                            log.warn("방 {} 게임 {} 실패: {}", room, g, e.getMessage());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        recorder.report(System.out, elapsed);
+        context.close();
+        return new Result(recorder, elapsed);
+    }
+
+    private record Result(LatencyRecorder recorder, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.liargame.loadtest;
+
+import com.liargame.loadtest.BroadcastWatcher.Expectation;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.liargame.loadtest.BroadcastWatcher.data;
+import static com.liargame.loadtest.BroadcastWatcher.number;
+import static com.liargame.loadtest.BroadcastWatcher.type;
+
+/**
+ * 방 하나에서 게임 한 판을 끝까지 진행하는 봇 묶음
+ * 생성 -> 입장 -> 시작 -> 설명 -> 투표 -> 최후진술 -> 생존/사망 투표 순서로 실제 클라이언트와 같은 요청을 보내고,
+ * 각 요청은 방 토픽에서 해당 브로드캐스트를 받은 뒤에 다음 요청으로 넘어간다.
+ * 결과가 정해지도록 모두 두 번째 플레이어를 지목하며(지목된 플레이어는 세 번째 플레이어에게 투표),
+ * 라운드 수를 1로 만들어 생존/사망 투표 후에는 항상 게임이 끝난다.
+ * voteRace 면 투표와 생존/사망 투표를 기다림 없이 한꺼번에 보내고, 게임이 끝난 뒤
+ * 단계 결과 브로드캐스트가 정확히 한 번씩만 나왔는지 검사한다.
+ */
+final class RoomBot {
+
+    private final int index;
+    private final int playerCount;
+    private final BotClient client;
+    private final LatencyRecorder recorder;
+    private final BroadcastWatcher watcher;
+    private final boolean voteRace;
+
+    RoomBot(int index, int playerCount, BotClient client, LatencyRecorder recorder, long timeoutMs, boolean voteRace) {
+        this.index = index;
+        this.playerCount = playerCount;
+        this.client = client;
+        this.recorder = recorder;
+        this.watcher = new BroadcastWatcher(recorder, timeoutMs);
+        this.voteRace = voteRace;
+    }
+
+    void play() throws Exception {
+        long gameStartedAt = System.nanoTime();
+
+        long startedAt = System.nanoTime();
+        String roomCode = (String) request("create", "/api/rooms",
+                Map.of("maxPlayers", playerCount, "roundLimit", 1)).get("roomCode");
+        recorder.record("create", System.nanoTime() - startedAt);
+        String topic = "/topic/rooms/" + roomCode;
+        String app = "/app/rooms/" + roomCode;
+
+        List<Bot> bots = new ArrayList<>(playerCount);
+        try {
+            // 입장 브로드캐스트를 놓치지 않도록 모든 봇이 먼저 연결/구독하고 첫 봇의 구독으로 관찰
+            for (int i = 0; i < playerCount; i++) {
+                startedAt = System.nanoTime();
+                StompSession session = client.connect();
+                recorder.record("connect", System.nanoTime() - startedAt);
+                session.subscribe(topic, i == 0 ? watcher : BotClient.discarding());
+                bots.add(new Bot(String.format("bot%d-%d", index, i), session));
+            }
+
+            // 입장 - 첫 입장자가 호스트
+            for (Bot bot : bots) {
+                Expectation joined = watcher.expect("join", m -> "PLAYER_JOINED".equals(type(m))
+                        && bot.nickname.equals(joinedNickname(m)));
+                bot.playerId = number(request(joined, "/api/rooms/" + roomCode + "/join",
+                        Map.of("nickname", bot.nickname)).get("playerId"));
+                joined.await();
+                bot.session.send(app + "/register", Map.of("playerId", bot.playerId));
+            }
+            Bot host = bots.get(0);
+            Bot accused = bots.get(1);
+
+            Expectation started = watcher.expect("start", m -> "GAME_STARTED".equals(type(m)));
+            request(started, "/api/rooms/" + roomCode + "/start?hostPlayerId=" + host.playerId, null);
+            started.await();
+
+            // 설명
+            Expectation allDescribed = null;
+            for (int i = 0; i < bots.size(); i++) {
+                Bot bot = bots.get(i);
+                if (i == bots.size() - 1) {
+                    allDescribed = watcher.expect("desc-complete", m -> "ALL_DESCRIPTIONS_COMPLETE".equals(type(m)));
+                }
+                Expectation described = watcher.expect("desc", m -> "DESC_UPDATE".equals(type(m))
+                        && bot.playerId.equals(number(m.get("playerId"))));
+                bot.session.send(app + "/desc", Map.of("playerId", bot.playerId, "text", "설명 " + bot.nickname));
+                described.await();
+            }
+            Objects.requireNonNull(allDescribed).await();
+
+            Expectation votingStarted = watcher.expect("start-voting", m -> roundState(m, "VOTE"));
+            request(votingStarted, "/api/rooms/" + roomCode + "/actions/start-voting", null);
+            votingStarted.await();
+
+            // 투표 - 마지막 표에서 결과가 나온다
+            Expectation voteResult = null;
+            if (voteRace) {
+                voteResult = watcher.expect("vote-result", m -> "VOTE_RESULT".equals(type(m)));
+                for (Bot bot : bots) {
+                    Long targetId = bot == accused ? bots.get(2).playerId : accused.playerId;
+                    bot.session.send(app + "/vote", Map.of("voterId", bot.playerId, "targetId", targetId,
+                            "isFinalVote", false));
+                }
+            } else {
+                for (int i = 0; i < bots.size(); i++) {
+                    Bot bot = bots.get(i);
+                    Long targetId = bot == accused ? bots.get(2).playerId : accused.playerId;
+                    if (i == bots.size() - 1) {
+                        voteResult = watcher.expect("vote-result", m -> "VOTE_RESULT".equals(type(m)));
+                    }
+                    Expectation voted = watcher.expect("vote", m -> "VOTE_UPDATE".equals(type(m))
+                            && bot.playerId.equals(number(m.get("playerId"))));
+                    bot.session.send(app + "/vote", Map.of("voterId", bot.playerId, "targetId", targetId,
+                            "isFinalVote", false));
+                    voted.await();
+                }
+            }
+            Map<String, Object> result = data(Objects.requireNonNull(voteResult).await());
+            if (!accused.playerId.equals(number(result.get("accusedId")))) {
+                throw new IllegalStateException("지목 결과가 예상과 다릅니다: " + result.get("outcome"));
+            }
+
+            Expectation defended = watcher.expect("final-defense", m -> "FINAL_DEFENSE_COMPLETE".equals(type(m)));
+            accused.session.send(app + "/final-defense", Map.of("playerId", accused.playerId, "text", "최후진술"));
+            defended.await();
+
+            Expectation finalVotingStarted = watcher.expect("start-final-voting", m -> roundState(m, "FINAL_VOTING"));
+            request(finalVotingStarted,
+                    "/api/rooms/" + roomCode + "/actions/start-final-voting?hostId=" + host.playerId, null);
+            finalVotingStarted.await();
+
+            // 생존/사망 투표 - 중간 표는 브로드캐스트가 없어 응답 시간만, 마지막 표는 결과 브로드캐스트까지 잰다
+            List<Bot> voters = bots.stream().filter(b -> b != accused).toList();
+            Expectation finalResult = null;
+            Expectation gameEnded = null;
+            if (voteRace) {
+                finalResult = watcher.expect("final-vote-result", m -> "FINAL_VOTE_RESULT".equals(type(m))
+                        || "GAME_END".equals(type(m)));
+                gameEnded = watcher.expect("game-end", m -> "GAME_END".equals(type(m)));
+                sendFinalVotesAtOnce(roomCode, voters, finalResult, gameEnded);
+            } else {
+                for (int i = 0; i < voters.size(); i++) {
+                    Bot bot = voters.get(i);
+                    if (i == voters.size() - 1) {
+                        // 라이어가 처형되면 결과 없이 바로 GAME_END
+                        finalResult = watcher.expect("final-vote-result", m -> "FINAL_VOTE_RESULT".equals(type(m))
+                                || "GAME_END".equals(type(m)));
+                        gameEnded = watcher.expect("game-end", m -> "GAME_END".equals(type(m)));
+                    }
+                    startedAt = System.nanoTime();
+                    try {
+                        client.post("/api/rooms/" + roomCode + "/actions/final-vote?playerId=" + bot.playerId
+                                + "&decision=ELIMINATE", null);
+                    } catch (Exception e) {
+                        recorder.fail("final-vote(http)");
+                        if (finalResult != null) {
+                            finalResult.cancel();
+                            gameEnded.cancel();
+                        }
+                        throw e;
+                    }
+                    recorder.record("final-vote(http)", System.nanoTime() - startedAt);
+                }
+            }
+            Objects.requireNonNull(finalResult).await();
+            Objects.requireNonNull(gameEnded).await();
+            if (voteRace) {
+                verifyPhaseResultsOnce(roomCode);
+            }
+
+            recorder.record("game", System.nanoTime() - gameStartedAt);
+        } finally {
+            for (Bot bot : bots) {
+                if (bot.session.isConnected()) {
+                    bot.session.disconnect();
+                }
+            }
+        }
+    }
+
+    // 생존/사망 투표를 투표자마다 다른 스레드에서 동시에 보낸다
+    private void sendFinalVotesAtOnce(String roomCode, List<Bot> voters, Expectation finalResult,
+                                      Expectation gameEnded) throws Exception {
+        List<CompletableFuture<Void>> sent = voters.stream()
+                .map(bot -> CompletableFuture.runAsync(() -> {
+                    long startedAt = System.nanoTime();
+                    try {
+                        client.post("/api/rooms/" + roomCode + "/actions/final-vote?playerId=" + bot.playerId
+                                + "&decision=ELIMINATE", null);
+                    } catch (Exception e) {
+                        recorder.fail("final-vote(http)");
+                        throw new CompletionException(e);
+                    }
+                    recorder.record("final-vote(http)", System.nanoTime() - startedAt);
+                }))
+                .toList();
+        try {
+            CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            finalResult.cancel();
+            gameEnded.cancel();
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    // 동시에 도착한 표가 단계를 두 번 넘기지 않았는지 - 단계마다 결과는 한 번만 나와야 한다
+    private void verifyPhaseResultsOnce(String roomCode) {
+        int descComplete = watcher.count("ALL_DESCRIPTIONS_COMPLETE");
+        int voteResults = watcher.count("VOTE_RESULT");
+        int finalResults = watcher.count("FINAL_VOTE_RESULT");
+        int gameEnds = watcher.count("GAME_END");
+        if (descComplete != 1 || voteResults != 1 || finalResults > 1 || gameEnds != 1) {
+            recorder.fail("vote-race");
+            throw new IllegalStateException(String.format(
+                    "방 %s 단계 결과 중복: 설명 완료 %d, 투표 결과 %d, 생존/사망 결과 %d, 게임 종료 %d",
+                    roomCode, descComplete, voteResults, finalResults, gameEnds));
+        }
+    }
+
+    // REST 요청 - 실패하면 기다리던 브로드캐스트도 실패로 기록
+    private Map<String, Object> request(Expectation pending, String path, Object body) throws Exception {
+        try {
+            return client.post(path, body);
+        } catch (Exception e) {
+            if (pending != null) {
+                pending.cancel();
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, Object> request(String action, String path, Object body) throws Exception {
+        try {
+            return client.post(path, body);
+        } catch (Exception e) {
+            recorder.fail(action);
+            throw e;
+        }
+    }
+
+    private static Object joinedNickname(Map<String, Object> message) {
+        Object player = data(message).get("player");
+        return player instanceof Map<?, ?> p ? p.get("nickname") : null;
+    }
+
+    private static boolean roundState(Map<String, Object> message, String state) {
+        return "ROUND_STATE".equals(type(message)) && state.equals(data(message).get("state"));
+    }
+
+    private static final class Bot {
+        private final String nickname;
+        private final StompSession session;
+        private Long playerId;
+
+        Bot(String nickname, StompSession session) {
+            this.nickname = nickname;
+            this.session = session;
+        }
+    }
+}
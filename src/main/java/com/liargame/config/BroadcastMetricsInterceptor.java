@@ -0,0 +1,77 @@
+package com.liargame.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브로커 채널에 발행되는 메시지를 GameMessage 타입별로 집계
+ * 직렬화가 끝난 페이로드를 보므로 구독자 수와 무관하게 발행 1건당 한 번 센다.
+ * - liargame.broadcast.messages{type}: 발행 수
+ * - liargame.broadcast.bytes{type}: 페이로드 바이트 합계
+ */
+class BroadcastMetricsInterceptor implements ChannelInterceptor {
+
+    // Jackson 은 선언 순서대로 직렬화하므로 GameMessage 는 항상 type 필드로 시작한다
+    private static final byte[] TYPE_PREFIX = "{\"type\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_TYPE_LENGTH = 40;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    BroadcastMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && message.getPayload() instanceof byte[] payload) {
+            Counter[] meters = counters.computeIfAbsent(messageType(payload), this::register);
+            meters[0].increment();
+            meters[1].increment(payload.length);
+        }
+        return message;
+    }
+
+    private Counter[] register(String type) {
+        return new Counter[] {
+                Counter.builder("liargame.broadcast.messages")
+                        .description("타입별 브로드캐스트 발행 수")
+                        .tag("type", type)
+                        .register(meterRegistry),
+                Counter.builder("liargame.broadcast.bytes")
+                        .description("타입별 브로드캐스트 페이로드 바이트")
+                        .baseUnit("bytes")
+                        .tag("type", type)
+                        .register(meterRegistry)
+        };
+    }
+
+    static String messageType(byte[] payload) {
+        if (payload.length <= TYPE_PREFIX.length) {
+            return "other";
+        }
+        for (int i = 0; i < TYPE_PREFIX.length; i++) {
+            if (payload[i] != TYPE_PREFIX[i]) {
+                return "other";
+            }
+        }
+        int end = TYPE_PREFIX.length;
+        int limit = Math.min(payload.length, TYPE_PREFIX.length + MAX_TYPE_LENGTH);
+        while (end < limit && payload[end] != '"') {
+            end++;
+        }
+        if (end == limit) {
+            return "other";
+        }
+        return new String(payload, TYPE_PREFIX.length, end - TYPE_PREFIX.length, StandardCharsets.US_ASCII);
+    }
+}
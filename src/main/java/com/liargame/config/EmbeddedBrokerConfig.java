@@ -0,0 +1,50 @@
+package com.liargame.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.h2.tools.Server;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 로컬 다중 노드 실행용 내장 브로커 (embedded-broker 프로필)
+ * 이 노드가 STOMP 브로커(Artemis)와 H2 TCP 서버를 함께 띄우고 자신도 relay 모드로 붙는다.
+ * 두 번째 노드는 broker-peer 프로필로 같은 브로커와 같은 DB 에 붙으므로, 한 머신에서 두 인스턴스가 한 방을 공유할 수 있다.
+ * Artemis 는 developmentOnly 의존성이라 bootRun 에서만 클래스패스에 있고, 패키징된 jar 에서는 이 설정이 빠진다.
+ */
+@Configuration
+@Profile("embedded-broker")
+@ConditionalOnClass(name = "org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ")
+@Slf4j
+public class EmbeddedBrokerConfig {
+
+    @Value("${liargame.broker.embedded.stomp-port:61613}")
+    private int stompPort;
+
+    @Value("${liargame.broker.embedded.h2-port:9092}")
+    private int h2Port;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker() throws Exception {
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        // /topic 은 브로드캐스트(multicast), /queue 는 한 구독자(anycast)로 라우팅
+        configuration.addAcceptorConfiguration("stomp", "tcp://localhost:" + stompPort
+                + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/");
+
+        log.info("내장 STOMP 브로커 시작: localhost:{}", stompPort);
+        return new EmbeddedActiveMQ().setConfiguration(configuration);
+    }
+
+    // 다른 노드가 이 노드의 인메모리 DB 를 jdbc:h2:tcp://localhost:{h2-port}/mem:testdb 로 공유
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public Server h2TcpServer() throws Exception {
+        log.info("H2 TCP 서버 시작: localhost:{}", h2Port);
+        return Server.createTcpServer("-tcp", "-tcpPort", String.valueOf(h2Port));
+    }
+}
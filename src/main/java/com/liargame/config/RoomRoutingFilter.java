@@ -0,0 +1,109 @@
+package com.liargame.config;
+
+import com.liargame.service.ClusterMembership;
+import com.liargame.service.RoomForwarder;
+import com.liargame.service.RoomOwnership;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * /api/rooms/{code}/** 요청을 방 소유 노드로 보낸다 (클러스터 모드에서만)
+ * 이 노드가 소유자면 그대로 처리하고, 아니면 요청을 소유 노드로 전달해 응답을 그대로 돌려준다.
+ * 다른 노드가 전달한 요청(FORWARDED_HEADER)과 /internal/** 은 공유 비밀이 맞는 노드에서 온 것만 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomRoutingFilter extends OncePerRequestFilter {
+
+    private static final String ROOMS_PREFIX = "/api/rooms/";
+    private static final String INTERNAL_PREFIX = "/internal/";
+
+    private final ClusterMembership clusterMembership;
+    private final RoomOwnership roomOwnership;
+    private final RoomForwarder roomForwarder;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // 내부 엔드포인트는 클러스터 모드가 아니어도 막아야 하므로 항상 거친다
+        return !uri.startsWith(INTERNAL_PREFIX)
+                && (!clusterMembership.isEnabled() || !uri.startsWith(ROOMS_PREFIX));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        boolean fromPeer = request.getHeader(RoomForwarder.FORWARDED_HEADER) != null;
+        if ((fromPeer || uri.startsWith(INTERNAL_PREFIX))
+                && !clusterMembership.isTrustedPeer(request.getHeader(RoomForwarder.PEER_SECRET_HEADER))) {
+            log.warn("인증되지 않은 노드 간 요청 거절: {} {} ({})", request.getMethod(), uri, request.getRemoteAddr());
+            writeError(response, HttpStatus.FORBIDDEN, "허용되지 않은 요청입니다");
+            return;
+        }
+        if (uri.startsWith(INTERNAL_PREFIX)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        int end = uri.indexOf('/', ROOMS_PREFIX.length());
+        String roomCode = uri.substring(ROOMS_PREFIX.length(), end < 0 ? uri.length() : end);
+        if (roomCode.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RoomOwnership.Route route;
+        try {
+            if (fromPeer) {
+                roomOwnership.acquireForwarded(roomCode);
+                chain.doFilter(request, response);
+                return;
+            }
+            route = roomOwnership.route(roomCode);
+        } catch (IllegalStateException e) {
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+            return;
+        }
+
+        if (route.local()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            String pathAndQuery = request.getQueryString() != null ? uri + "?" + request.getQueryString() : uri;
+            HttpResponse<byte[]> forwarded = roomForwarder.forward(route, request.getMethod(), pathAndQuery,
+                    request.getContentType(), request.getInputStream().readAllBytes());
+            response.setStatus(forwarded.statusCode());
+            forwarded.headers().firstValue("Content-Type").ifPresent(response::setContentType);
+            response.getOutputStream().write(forwarded.body());
+        } catch (IOException e) {
+            log.warn("방 {} 요청 전달 실패: 노드 {}, 오류: {}", roomCode, route.nodeId(), e.getMessage());
+            writeError(response, HttpStatus.BAD_GATEWAY, "방 소유 노드에 연결하지 못했습니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "요청 전달이 중단되었습니다");
+        }
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"" + message.replace("\"", "'") + "\"}");
+    }
+}
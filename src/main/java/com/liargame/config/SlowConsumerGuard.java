@@ -0,0 +1,432 @@
+package com.liargame.config;
+
+import com.liargame.websocket.GameMessageCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 아웃바운드 큐와 느린 소비자 처리
+ * 브로드캐스트는 세션마다 제한된 큐에 넣고 바로 돌아오며, 실제 소켓 쓰기는 세션별로 하나씩 별도 스레드에서 한다.
+ * 따라서 한 클라이언트의 연결이 느려도 아웃바운드 채널 스레드와 같은 방의 다른 세션은 기다리지 않는다.
+ * - 큐에 ROOM_STATE_UPDATE 가 들어오면 같은 목적지의 밀린 방 상태 메시지(UPDATE/DELTA)는 최신 스냅샷으로 대체되어 버려진다.
+ * - 같은 목적지에 못 보낸 방 상태 메시지가 있는데 ROOM_STATE_DELTA 가 들어오면, 밀린 메시지와 새 델타를
+ *   ROOM_STATE_RESYNC 신호 하나로 합친다 (클라이언트는 REST 로 전체 상태를 다시 받는다).
+ * - 대기 메시지가 lag-threshold 이상이면 느린 소비자로 표시하고, max-lag-ms 넘게 계속되면 연결을 끊는다.
+ * - 한 번의 전송이 send-time-limit 을 넘기거나 큐가 한도를 넘으면 연결을 끊는다 (게임 이벤트를 임의로 버리지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlowConsumerGuard {
+
+    private static final String ROOM_STATE_UPDATE = "{\"type\":\"ROOM_STATE_UPDATE\"";
+    private static final String ROOM_STATE_DELTA = "{\"type\":\"ROOM_STATE_DELTA\"";
+    private static final String ROOM_STATE_RESYNC = "{\"type\":\"ROOM_STATE_RESYNC\"";
+    private static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadingMode threadingMode;
+
+    @Value("${liargame.websocket.send-time-limit-ms:10000}")
+    private long sendTimeLimitMs;
+
+    @Value("${liargame.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${liargame.websocket.max-queued-messages:256}")
+    private int maxQueuedMessages;
+
+    @Value("${liargame.websocket.lag-threshold:16}")
+    private int lagThreshold;
+
+    @Value("${liargame.websocket.max-lag-ms:15000}")
+    private long maxLagMs;
+
+    private final ConcurrentHashMap<String, QueuedSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger laggingSessions = new AtomicInteger();
+
+    private ExecutorService senders;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ws-slow-consumer-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter supersededCounter;
+    private Counter collapsedCounter;
+
+    @PostConstruct
+    void start() {
+        // 느린 세션의 쓰기만 스레드를 오래 잡으므로 필요한 만큼 늘어나는 풀 (가상 스레드 모드면 가상 스레드)
+        senders = Executors.newCachedThreadPool(threadingMode.threadFactory("ws-send-"));
+
+        Gauge.builder("liargame.ws.outbound.queued", sessions,
+                        s -> s.values().stream().mapToInt(QueuedSession::queuedMessages).sum())
+                .description("세션 아웃바운드 큐에 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("liargame.ws.slow.sessions", laggingSessions, AtomicInteger::get)
+                .description("느린 소비자로 표시된 세션 수")
+                .register(meterRegistry);
+        supersededCounter = Counter.builder("liargame.ws.outbound.dropped")
+                .description("최신 스냅샷으로 대체되어 보내지 않은 방 상태 메시지 수")
+                .tag("reason", "superseded")
+                .register(meterRegistry);
+        collapsedCounter = Counter.builder("liargame.ws.outbound.dropped")
+                .description("재요청 신호로 합쳐져 보내지 않은 방 상태 메시지 수")
+                .tag("reason", "resync")
+                .register(meterRegistry);
+
+        watchdog.scheduleAtFixedRate(this::checkSessions, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * STOMP 핸들러에 넘기는 세션을 큐가 달린 세션으로 바꾸는 데코레이터 (WebSocketTransportRegistration 에 등록)
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                QueuedSession queued = new QueuedSession(session);
+                sessions.put(session.getId(), queued);
+                super.afterConnectionEstablished(queued);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(wrapped(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(wrapped(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                QueuedSession queued = sessions.remove(session.getId());
+                if (queued != null) {
+                    queued.discard();
+                }
+                super.afterConnectionClosed(queued != null ? queued : session, closeStatus);
+            }
+        };
+    }
+
+    private WebSocketSession wrapped(WebSocketSession session) {
+        QueuedSession queued = sessions.get(session.getId());
+        return queued != null ? queued : session;
+    }
+
+    // 전송이 멈췄거나 오래 밀린 세션을 끊는다
+    private void checkSessions() {
+        long now = System.nanoTime();
+        for (QueuedSession session : sessions.values()) {
+            try {
+                long sendStartedAt = session.sendStartedAt;
+                if (sendStartedAt != 0 && now - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs)) {
+                    session.disconnect("send-timeout");
+                } else if (session.laggingSince != 0 && now - session.laggingSince > TimeUnit.MILLISECONDS.toNanos(maxLagMs)) {
+                    session.disconnect("lagging");
+                }
+            } catch (Exception e) {
+                log.warn("느린 소비자 검사 중 오류: 세션 {}, 오류: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    // STOMP MESSAGE 프레임에서 목적지와 방 상태 메시지 종류를 읽는다
+    static QueuedMessage inspect(WebSocketMessage<?> message) {
+        if (message instanceof BinaryMessage binary) {
+            return inspectBinary(binary);
+        }
+        if (!(message instanceof TextMessage text)) {
+            return new QueuedMessage(message, null, false, false, message.getPayloadLength());
+        }
+        String payload = text.getPayload();
+        if (!payload.startsWith("MESSAGE\n")) {
+            return new QueuedMessage(message, null, false, false, payload.length());
+        }
+        int bodyStart = payload.indexOf("\n\n");
+        int destStart = payload.indexOf("\ndestination:");
+        String destination = null;
+        if (destStart >= 0 && (bodyStart < 0 || destStart < bodyStart)) {
+            int valueStart = destStart + "\ndestination:".length();
+            destination = payload.substring(valueStart, payload.indexOf('\n', valueStart));
+        }
+        boolean snapshot = bodyStart >= 0 && payload.startsWith(ROOM_STATE_UPDATE, bodyStart + 2);
+        boolean roomState = snapshot || (bodyStart >= 0 && (payload.startsWith(ROOM_STATE_DELTA, bodyStart + 2)
+                || payload.startsWith(ROOM_STATE_RESYNC, bodyStart + 2)));
+        return new QueuedMessage(message, destination, roomState, snapshot, payload.length());
+    }
+
+    // CBOR 형식 세션의 MESSAGE 프레임 (헤더는 텍스트, 본문은 GameMessageCodec 봉투)
+    private static QueuedMessage inspectBinary(BinaryMessage message) {
+        ByteBuffer payload = message.getPayload();
+        byte[] frame = new byte[payload.remaining()];
+        payload.duplicate().get(frame);
+
+        int bodyStart = -1;
+        for (int i = 0; i + 1 < frame.length; i++) {
+            if (frame[i] == '\n' && frame[i + 1] == '\n') {
+                bodyStart = i;
+                break;
+            }
+        }
+        String headers = new String(frame, 0, bodyStart >= 0 ? bodyStart + 1 : frame.length,
+                StandardCharsets.UTF_8);
+        if (bodyStart < 0 || !headers.startsWith("MESSAGE\n")) {
+            return new QueuedMessage(message, null, false, false, frame.length);
+        }
+        String destination = null;
+        int destStart = headers.indexOf("\ndestination:");
+        if (destStart >= 0) {
+            int valueStart = destStart + "\ndestination:".length();
+            destination = headers.substring(valueStart, headers.indexOf('\n', valueStart));
+        }
+        int typeCode = GameMessageCodec.typeCodeAt(frame, bodyStart + 2);
+        boolean snapshot = typeCode == GameMessageCodec.ROOM_STATE_UPDATE_CODE;
+        boolean roomState = snapshot || typeCode == GameMessageCodec.ROOM_STATE_DELTA_CODE
+                || typeCode == GameMessageCodec.ROOM_STATE_RESYNC_CODE;
+        return new QueuedMessage(message, destination, roomState, snapshot, frame.length);
+    }
+
+    /**
+     * 방 상태 델타 프레임과 같은 헤더로 ROOM_STATE_RESYNC 신호 프레임을 만든다 (만들 수 없으면 null)
+     * 본문이 바뀌므로 content-length 만 새로 쓴다.
+     */
+    static QueuedMessage resyncFor(QueuedMessage delta) {
+        String destination = delta.destination();
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        String roomCode = destination.substring(ROOM_TOPIC_PREFIX.length());
+        try {
+            byte[] frame;
+            if (delta.message() instanceof TextMessage text) {
+                String payload = text.getPayload();
+                String body = "{\"type\":\"ROOM_STATE_RESYNC\",\"roomCode\":\"" + roomCode + "\"}";
+                frame = stompFrame(payload.substring(0, payload.indexOf("\n\n")),
+                        body.getBytes(StandardCharsets.UTF_8));
+                return new QueuedMessage(new TextMessage(frame), destination, true, false, frame.length);
+            }
+            if (delta.message() instanceof BinaryMessage binary) {
+                ByteBuffer payload = binary.getPayload();
+                byte[] original = new byte[payload.remaining()];
+                payload.duplicate().get(original);
+                String headers = new String(original, StandardCharsets.UTF_8);
+                frame = stompFrame(headers.substring(0, headers.indexOf("\n\n")),
+                        GameMessageCodec.resyncCbor(roomCode));
+                return new QueuedMessage(new BinaryMessage(frame), destination, true, false, frame.length);
+            }
+        } catch (Exception e) {
+            log.debug("방 상태 재요청 신호 생성 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static byte[] stompFrame(String headers, byte[] body) {
+        StringBuilder head = new StringBuilder(headers.length() + 32);
+        for (String line : headers.split("\n")) {
+            if (!line.startsWith("content-length:")) {
+                head.append(line).append('\n');
+            }
+        }
+        head.append("content-length:").append(body.length).append("\n\n");
+        byte[] headBytes = head.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[headBytes.length + body.length + 1];
+        System.arraycopy(headBytes, 0, frame, 0, headBytes.length);
+        System.arraycopy(body, 0, frame, headBytes.length, body.length);
+        return frame;
+    }
+
+    record QueuedMessage(WebSocketMessage<?> message, String destination, boolean roomState, boolean snapshot,
+                         int size) {
+    }
+
+    private final class QueuedSession extends WebSocketSessionDecorator {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<QueuedMessage> queue = new ArrayDeque<>();
+        private long queuedBytes;
+        private boolean draining;
+        private volatile boolean closed;
+
+        // 진행 중인 전송 시작 시각과 느린 소비자로 표시된 시각 (nanoTime, 0 이면 없음)
+        private volatile long sendStartedAt;
+        private volatile long laggingSince;
+
+        QueuedSession(WebSocketSession session) {
+            super(session);
+        }
+
+        int queuedMessages() {
+            return queue.size();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (closed) {
+                return;
+            }
+            QueuedMessage queued = inspect(message);
+            boolean overflow;
+            boolean startDrain = false;
+            int superseded = 0;
+            boolean collapsed = false;
+
+            lock.lock();
+            try {
+                if (queued.roomState() && queued.destination() != null && hasPendingState(queued.destination())) {
+                    // 최신 전체 상태가 들어오면 아직 못 보낸 같은 방의 상태 메시지는 필요 없고,
+                    // 델타는 앞선 상태 없이 적용할 수 없으므로 밀린 메시지와 함께 재요청 신호 하나로 합친다
+                    QueuedMessage replacement = queued.snapshot() ? queued : resyncFor(queued);
+                    if (replacement != null) {
+                        superseded = removePendingStates(queued.destination());
+                        collapsed = !queued.snapshot();
+                        queued = replacement;
+                    }
+                }
+                queue.add(queued);
+                queuedBytes += queued.size();
+
+                overflow = queue.size() > maxQueuedMessages || queuedBytes > sendBufferSizeLimit;
+                if (!overflow && !draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+                if (queue.size() >= lagThreshold && laggingSince == 0) {
+                    laggingSince = System.nanoTime();
+                    laggingSessions.incrementAndGet();
+                    log.debug("느린 소비자 감지: 세션 {}, 대기 {}건", getId(), queue.size());
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (collapsed) {
+                // 재요청 신호로 합친 경우 새 델타도 보내지 않는다
+                collapsedCounter.increment(superseded + 1);
+            } else if (superseded > 0) {
+                supersededCounter.increment(superseded);
+            }
+            if (overflow) {
+                disconnect("overflow");
+            } else if (startDrain) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private boolean hasPendingState(String destination) {
+            for (QueuedMessage pending : queue) {
+                if (pending.roomState() && destination.equals(pending.destination())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int removePendingStates(String destination) {
+            int removed = 0;
+            for (Iterator<QueuedMessage> it = queue.iterator(); it.hasNext(); ) {
+                QueuedMessage pending = it.next();
+                if (pending.roomState() && destination.equals(pending.destination())) {
+                    it.remove();
+                    queuedBytes -= pending.size();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private void drain() {
+            while (!closed) {
+                QueuedMessage next;
+                lock.lock();
+                try {
+                    next = queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    queuedBytes -= next.size();
+                    if (laggingSince != 0 && queue.size() < lagThreshold / 2) {
+                        laggingSince = 0;
+                        laggingSessions.decrementAndGet();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                sendStartedAt = System.nanoTime();
+                try {
+                    getDelegate().sendMessage(next.message());
+                } catch (Exception e) {
+                    log.debug("세션 {} 전송 실패: {}", getId(), e.getMessage());
+                    disconnect("send-error");
+                    return;
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        void disconnect(String reason) {
+            if (closed) {
+                return;
+            }
+            discard();
+            Counter.builder("liargame.ws.slow.disconnects")
+                    .description("느린 소비자로 판단해 끊은 세션 수")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("느린 소비자 연결 종료: 세션 {}, 사유 {}", getId(), reason);
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("세션 {} 종료 실패: {}", getId(), e.getMessage());
+            }
+        }
+
+        // 연결이 닫히면 대기 중인 메시지를 버린다
+        void discard() {
+            lock.lock();
+            try {
+                closed = true;
+                queue.clear();
+                queuedBytes = 0;
+                if (laggingSince != 0) {
+                    laggingSince = 0;
+                    laggingSessions.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.liargame.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 모드 (liargame.threads.mode)
+ * platform: 기존처럼 플랫폼 스레드 풀에서 실행
+ * virtual: STOMP 채널, 방 스케줄러 워커, 세션 만료 처리처럼 JDBC 에서 주로 대기하는 작업을 가상 스레드에서 실행 (Java 21 이상)
+ * Tomcat 요청 스레드와 @Scheduled 는 spring.threads.virtual.enabled 로 함께 전환한다 (virtual-threads 프로필).
+ */
+@Component
+@Slf4j
+public class ThreadingMode {
+
+    @Value("${liargame.threads.mode:platform}")
+    private String mode;
+
+    // 가상 스레드 모드에서 STOMP 채널 하나가 동시에 처리하는 메시지 수
+    @Value("${liargame.threads.channel-concurrency:1024}")
+    private int channelConcurrency;
+
+    private boolean virtual;
+
+    @PostConstruct
+    void start() {
+        virtual = "virtual".equalsIgnoreCase(mode);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 모드는 Java 21 이상에서만 사용할 수 있습니다: " + Runtime.version());
+        }
+        log.info("실행 모드: {}", virtual ? "virtual" : "platform");
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 이름 접두어를 붙인 스레드 팩토리 - 가상 스레드 모드면 가상 스레드를 만든다
+     */
+    public ThreadFactory threadFactory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger index = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 타이머 스레드에서 떼어 낼 블로킹 작업 실행기
+     * 가상 스레드 모드면 작업마다 가상 스레드, 아니면 호출한 스레드에서 그대로 실행 (기존 동작)
+     */
+    public Executor blockingExecutor(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix);
+        }
+        return Runnable::run;
+    }
+
+    /**
+     * STOMP 채널 실행기 - 가상 스레드 모드에서만 사용 (플랫폼 모드는 Spring 기본 풀)
+     */
+    ThreadPoolTaskExecutor channelExecutor(String prefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(true);
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(channelConcurrency);
+        executor.setMaxPoolSize(channelConcurrency);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
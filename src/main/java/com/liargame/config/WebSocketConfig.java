@@ -1,51 +1,147 @@
 package com.liargame.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liargame.websocket.GameMessageConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.LocalDateTime;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-    
+
+    // 연결 해제 후 재연결을 기다리는 유예 기간
+    private static final int GRACE_PERIOD_SECONDS = 60;
+
     @Autowired
     private ApplicationEventPublisher eventPublisher;
-    
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ThreadingMode threadingMode;
+
+    @Autowired
+    private SlowConsumerGuard slowConsumerGuard;
+
+    @Autowired
+    private WireFormatNegotiator wireFormatNegotiator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${liargame.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${liargame.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${liargame.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // simple: JVM 내장 브로커 (단일 노드), relay: 외부 STOMP 브로커로 중계 (다중 노드)
+    @Value("${liargame.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${liargame.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${liargame.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${liargame.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${liargame.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${liargame.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${liargame.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${liargame.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
     // 세션 ID와 플레이어 정보를 매핑하는 맵
     private final ConcurrentHashMap<String, SessionPlayerInfo> sessionPlayerMap = new ConcurrentHashMap<>();
 
-    // 타임아웃 처리를 위한 스케줄러
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    // (방 코드, 플레이어 ID) -> 현재 세션 정보 인덱스 (재연결 확인을 O(1) 로)
+    private final ConcurrentHashMap<PlayerKey, SessionPlayerInfo> playerIndex = new ConcurrentHashMap<>();
+
+    // 유예 기간 만료용 타이밍 휠 (1초 단위 칸, 유예 기간보다 한 바퀴가 길어 회전 수 관리가 필요 없다)
+    @SuppressWarnings("unchecked")
+    private final Queue<SessionPlayerInfo>[] expiryWheel = new Queue[GRACE_PERIOD_SECONDS + 2];
+    private volatile long expiryTick;
+
+    // 휠을 돌리는 단일 스케줄러
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            r -> new Thread(r, "session-expiry-wheel"));
+
+    private final AtomicInteger connectedSessions = new AtomicInteger();
+    private final AtomicInteger graceSessions = new AtomicInteger();
+    // 유예 기간이 끝나 퇴장 처리를 기다리거나 처리 중인 세션
+    private final AtomicInteger expiredSessions = new AtomicInteger();
+    private Counter expiredSessionsTotal;
+
+    // 만료된 세션의 퇴장 처리(DB 작업)를 실행할 곳 - 가상 스레드 모드면 휠 스레드를 막지 않도록 떼어 낸다
+    private Executor expiryExecutor;
 
     // 세션 상태 열거형
     public enum SessionStatus {
         CONNECTED, DISCONNECTED, GRACE_PERIOD, REMOVED
     }
 
+    private record PlayerKey(String roomCode, Long playerId) {
+    }
+
     // 세션별 플레이어 정보 저장용 클래스
     private static class SessionPlayerInfo {
+        final PlayerKey key;
         String roomCode;
         Long playerId;
         SessionStatus status;
         LocalDateTime disconnectedAt;
         String lastSessionId;
+        long expiresAtTick;
 
         SessionPlayerInfo(String roomCode, Long playerId) {
+            this.key = new PlayerKey(roomCode, playerId);
             this.roomCode = roomCode;
             this.playerId = playerId;
             this.status = SessionStatus.CONNECTED;
@@ -66,14 +162,100 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         public boolean isInGracePeriod() {
             return status == SessionStatus.GRACE_PERIOD &&
                    disconnectedAt != null &&
-                   disconnectedAt.plusMinutes(1).isAfter(LocalDateTime.now());
+                   disconnectedAt.plusSeconds(GRACE_PERIOD_SECONDS).isAfter(LocalDateTime.now());
         }
     }
 
+    @PostConstruct
+    void startSessionExpiry() {
+        for (int i = 0; i < expiryWheel.length; i++) {
+            expiryWheel[i] = new ConcurrentLinkedQueue<>();
+        }
+
+        Gauge.builder("liargame.sessions", connectedSessions, AtomicInteger::get)
+                .tag("status", "connected")
+                .description("연결 중인 플레이어 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("liargame.sessions", graceSessions, AtomicInteger::get)
+                .tag("status", "grace")
+                .description("재연결 유예 중인 플레이어 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("liargame.sessions", expiredSessions, AtomicInteger::get)
+                .tag("status", "expired")
+                .description("유예 기간이 만료되어 퇴장 처리 중인 플레이어 세션 수")
+                .register(meterRegistry);
+        expiredSessionsTotal = Counter.builder("liargame.sessions.expired")
+                .description("유예 기간이 만료되어 퇴장 처리된 세션 수")
+                .register(meterRegistry);
+
+        expiryExecutor = threadingMode.blockingExecutor("session-expiry-");
+        scheduler.scheduleAtFixedRate(this::advanceExpiryWheel, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stopSessionExpiry() {
+        scheduler.shutdownNow();
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            // 다른 노드에 연결된 사용자에게 보내는 개인 메시지가 브로커를 거쳐 전달되도록 사용자 레지스트리 공유
+            config.setUserDestinationBroadcast("/topic/unresolved-user-destination");
+            config.setUserRegistryBroadcast("/topic/user-registry");
+            log.info("STOMP 브로커 중계 모드: {}:{}", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
+        // ROOM_STATE_DELTA 순번이 세션별로 뒤섞이지 않도록 발행 순서 유지
+        config.setPreservePublishOrder(true);
+        // 브로커 채널에서 발행 단위로 타입별 메시지 수/바이트 집계
+        config.configureBrokerChannel().interceptors(new BroadcastMetricsInterceptor(meterRegistry));
+    }
+
+    // 전송 한도와 세션별 아웃바운드 큐 (느린 클라이언트가 아웃바운드 스레드와 같은 방의 브로드캐스트를 붙잡지 않게)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard::decorate);
+    }
+
+    // 가상 스레드 모드: 클라이언트 인바운드/아웃바운드 채널을 가상 스레드에서 처리 (JDBC 대기 중에도 채널 스레드가 모자라지 않게)
+    // 세션별 메시지 형식(JSON/CBOR): CONNECT 에서 협상하고 아웃바운드 MESSAGE 에서 변환
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (threadingMode.isVirtual()) {
+            registration.taskExecutor(threadingMode.channelExecutor("ws-inbound-"));
+        }
+        registration.interceptors(wireFormatNegotiator);
+    }
+
+    // GameMessage 는 CBOR 세션용 원본을 헤더로 함께 싣는 변환기로 먼저 변환 (나머지 payload 는 기본 변환기)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(0, new GameMessageConverter(objectMapper));
+        return true;
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (threadingMode.isVirtual()) {
+            registration.taskExecutor(threadingMode.channelExecutor("ws-outbound-"));
+        }
+        registration.interceptors(wireFormatNegotiator);
     }
 
     @Override
@@ -81,14 +263,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // SockJS 는 텍스트 프레임만 전달하므로 바이너리(CBOR) 형식은 네이티브 WebSocket 엔드포인트로 받는다
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*");
     }
-    
+
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectEvent event) {
         String sessionId = event.getMessage().getHeaders().get("simpSessionId").toString();
         log.info("WebSocket 연결 생성: 세션 ID {}", sessionId);
     }
-    
+
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         String sessionId = event.getSessionId();
@@ -97,87 +282,174 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 세션에 연결된 플레이어 정보 조회
         SessionPlayerInfo playerInfo = sessionPlayerMap.get(sessionId);
 
-        if (playerInfo != null) {
-            log.info("WebSocket 연결 해제 - 60초 유예 기간 시작: 방 {}, 플레이어 ID {}",
-                    playerInfo.roomCode, playerInfo.playerId);
+        if (playerInfo == null) {
+            log.info("WebSocket 연결 해제: 세션 {}에 연결된 플레이어 정보 없음", sessionId);
+            return;
+        }
+
+        synchronized (playerInfo) {
+            if (playerInfo.status != SessionStatus.CONNECTED) {
+                return;
+            }
+
+            // 같은 플레이어가 이미 다른 세션으로 연결되어 있으면 유예 없이 이 세션만 정리
+            if (playerIndex.get(playerInfo.key) != playerInfo) {
+                sessionPlayerMap.remove(sessionId);
+                playerInfo.status = SessionStatus.REMOVED;
+                connectedSessions.decrementAndGet();
+                return;
+            }
+
+            log.info("WebSocket 연결 해제 - {}초 유예 기간 시작: 방 {}, 플레이어 ID {}",
+                    GRACE_PERIOD_SECONDS, playerInfo.roomCode, playerInfo.playerId);
 
-            // 즉시 퇴장하지 않고 유예 기간 설정
+            // 즉시 퇴장하지 않고 유예 기간 설정 후 만료 칸에 등록
             playerInfo.markDisconnected(sessionId);
+            playerInfo.expiresAtTick = expiryTick + GRACE_PERIOD_SECONDS;
+            connectedSessions.decrementAndGet();
+            graceSessions.incrementAndGet();
+            expiryWheel[(int) (playerInfo.expiresAtTick % expiryWheel.length)].add(playerInfo);
+        }
+    }
+
+    // 1초마다 현재 칸의 세션 중 유예 기간이 지난 것만 퇴장 처리 (재연결된 세션은 칸에서 버린다)
+    private void advanceExpiryWheel() {
+        try {
+            long tick = ++expiryTick;
+            Queue<SessionPlayerInfo> bucket = expiryWheel[(int) (tick % expiryWheel.length)];
 
-            // 60초 후 실제 퇴장 처리하는 스케줄 등록
-            scheduler.schedule(() -> {
-                try {
-                    SessionPlayerInfo currentInfo = sessionPlayerMap.get(sessionId);
-                    if (currentInfo != null && currentInfo.status == SessionStatus.GRACE_PERIOD) {
+            List<SessionPlayerInfo> expired = new ArrayList<>();
+            SessionPlayerInfo info;
+            while ((info = bucket.poll()) != null) {
+                synchronized (info) {
+                    if (info.status != SessionStatus.GRACE_PERIOD || info.expiresAtTick > tick) {
+                        continue;
+                    }
+                    info.status = SessionStatus.REMOVED;
+                    sessionPlayerMap.remove(info.lastSessionId);
+                    graceSessions.decrementAndGet();
+                    expiredSessions.incrementAndGet();
+                    expiredSessionsTotal.increment();
+                    expired.add(info);
+                }
+                // playerIndex 는 정보 객체 잠금 밖에서 바꾼다 (registerSessionPlayer 의 compute 와 잠금 순서를 맞춤)
+                playerIndex.remove(info.key, info);
+            }
+
+            for (SessionPlayerInfo currentInfo : expired) {
+                expiryExecutor.execute(() -> {
+                    try {
                         log.info("유예 기간 만료 - 플레이어 퇴장 처리: 방 {}, 플레이어 ID {}",
                                 currentInfo.roomCode, currentInfo.playerId);
 
                         // 실제 퇴장 이벤트 발행
                         PlayerDisconnectEvent disconnectEvent = new PlayerDisconnectEvent(this,
-                            currentInfo.roomCode, currentInfo.playerId, sessionId);
+                            currentInfo.roomCode, currentInfo.playerId, currentInfo.lastSessionId);
                         eventPublisher.publishEvent(disconnectEvent);
-
-                        // 세션 정보 정리
-                        sessionPlayerMap.remove(sessionId);
+                    } catch (Exception e) {
+                        log.error("유예 기간 만료 후 플레이어 퇴장 처리 중 오류: 세션 {}, 오류: {}",
+                                currentInfo.lastSessionId, e.getMessage());
+                    } finally {
+                        expiredSessions.decrementAndGet();
                     }
-                } catch (Exception e) {
-                    log.error("유예 기간 만료 후 플레이어 퇴장 처리 중 오류: 세션 {}, 오류: {}",
-                            sessionId, e.getMessage());
-                    sessionPlayerMap.remove(sessionId);
-                }
-            }, 60, TimeUnit.SECONDS);
-
-        } else {
-            log.info("WebSocket 연결 해제: 세션 {}에 연결된 플레이어 정보 없음", sessionId);
+                });
+            }
+        } catch (Exception e) {
+            log.error("세션 만료 처리 중 오류: {}", e.getMessage(), e);
         }
     }
-    
+
     // 세션에 플레이어 정보 등록 (외부에서 호출)
+    // 재연결 판단과 인덱스 교체를 키 단위 compute 로 묶어, 같은 플레이어의 연결이 겹쳐도 세션 게이지가 한 번만 바뀐다.
+    // compute 안에서는 정보 객체만 잠그고 playerIndex 를 다시 건드리지 않는다 (다른 경로는 정보 잠금 밖에서 인덱스를 바꾼다)
     public void registerSessionPlayer(String sessionId, String roomCode, Long playerId) {
-        // 기존에 같은 플레이어가 있는지 확인 (재연결 케이스)
-        SessionPlayerInfo existingInfo = findPlayerInfo(roomCode, playerId);
+        PlayerKey key = new PlayerKey(roomCode, playerId);
+        boolean[] reconnected = {false};
+
+        SessionPlayerInfo registered = playerIndex.compute(key, (k, existingInfo) -> {
+            if (existingInfo != null) {
+                synchronized (existingInfo) {
+                    if (existingInfo.isInGracePeriod()) {
+                        // 재연결: 기존 정보 업데이트
+                        log.info("플레이어 재연결 감지: 방 {}, 플레이어 ID {}, 새 세션 {}", roomCode, playerId, sessionId);
 
-        if (existingInfo != null && existingInfo.isInGracePeriod()) {
-            // 재연결: 기존 정보 업데이트
-            log.info("플레이어 재연결 감지: 방 {}, 플레이어 ID {}, 새 세션 {}", roomCode, playerId, sessionId);
+                        // 이전 세션 정보 제거
+                        if (existingInfo.lastSessionId != null) {
+                            sessionPlayerMap.remove(existingInfo.lastSessionId);
+                        }
 
-            // 이전 세션 정보 제거
-            if (existingInfo.lastSessionId != null) {
-                sessionPlayerMap.remove(existingInfo.lastSessionId);
+                        // 새 세션으로 등록하고 연결 상태로 변경 (만료 칸에 남은 항목은 틱에서 버려진다)
+                        existingInfo.markReconnected();
+                        graceSessions.decrementAndGet();
+                        connectedSessions.incrementAndGet();
+                        sessionPlayerMap.put(sessionId, existingInfo);
+                        reconnected[0] = true;
+                        return existingInfo;
+                    }
+
+                    // 유예 시간은 지났지만 아직 휠에서 정리되지 않은 항목은 여기서 정리 (만료 퇴장 이벤트가 나가지 않게)
+                    if (existingInfo.status == SessionStatus.GRACE_PERIOD) {
+                        graceSessions.decrementAndGet();
+                        if (existingInfo.lastSessionId != null) {
+                            sessionPlayerMap.remove(existingInfo.lastSessionId, existingInfo);
+                        }
+                        existingInfo.status = SessionStatus.REMOVED;
+                    }
+                }
             }
 
-            // 새 세션으로 등록하고 연결 상태로 변경
-            existingInfo.markReconnected();
-            sessionPlayerMap.put(sessionId, existingInfo);
+            // 새로운 연결
+            connectedSessions.incrementAndGet();
+            return new SessionPlayerInfo(roomCode, playerId);
+        });
 
+        if (reconnected[0]) {
             log.info("플레이어 재연결 완료: 세션 {}, 방 {}, 플레이어 ID {}", sessionId, roomCode, playerId);
-        } else {
-            // 새로운 연결
-            sessionPlayerMap.put(sessionId, new SessionPlayerInfo(roomCode, playerId));
-            log.info("세션 플레이어 정보 등록: 세션 {}, 방 {}, 플레이어 ID {}", sessionId, roomCode, playerId);
+            return;
         }
-    }
 
-    // 특정 플레이어의 세션 정보 찾기
-    private SessionPlayerInfo findPlayerInfo(String roomCode, Long playerId) {
-        return sessionPlayerMap.values().stream()
-                .filter(info -> info.roomCode.equals(roomCode) && info.playerId.equals(playerId))
-                .findFirst()
-                .orElse(null);
+        SessionPlayerInfo previous = sessionPlayerMap.put(sessionId, registered);
+        if (previous != null && previous != registered) {
+            releaseInfo(previous);
+        }
+        log.info("세션 플레이어 정보 등록: 세션 {}, 방 {}, 플레이어 ID {}", sessionId, roomCode, playerId);
     }
 
     // 플레이어가 재연결 가능한 상태인지 확인
     public boolean canPlayerReconnect(String roomCode, Long playerId) {
-        SessionPlayerInfo playerInfo = findPlayerInfo(roomCode, playerId);
+        SessionPlayerInfo playerInfo = playerIndex.get(new PlayerKey(roomCode, playerId));
         return playerInfo != null && playerInfo.isInGracePeriod();
     }
-    
+
+    // 연결 중이거나 유예 기간인 세션이 남아 있는 방 코드 (방 정리 작업이 실행마다 한 번 조회)
+    public Set<String> roomsWithSessions() {
+        Set<String> rooms = new HashSet<>();
+        playerIndex.keySet().forEach(key -> rooms.add(key.roomCode()));
+        return rooms;
+    }
+
     // 세션에서 플레이어 정보 제거 (외부에서 호출)
     public void unregisterSessionPlayer(String sessionId) {
         SessionPlayerInfo removed = sessionPlayerMap.remove(sessionId);
         if (removed != null) {
-            log.info("세션 플레이어 정보 제거: 세션 {}, 방 {}, 플레이어 ID {}", 
+            releaseInfo(removed);
+            log.info("세션 플레이어 정보 제거: 세션 {}, 방 {}, 플레이어 ID {}",
                     sessionId, removed.roomCode, removed.playerId);
         }
     }
-}
\ No newline at end of file
+
+    private void releaseInfo(SessionPlayerInfo info) {
+        synchronized (info) {
+            if (info.status == SessionStatus.CONNECTED) {
+                connectedSessions.decrementAndGet();
+            } else if (info.status == SessionStatus.GRACE_PERIOD) {
+                graceSessions.decrementAndGet();
+                if (info.lastSessionId != null) {
+                    sessionPlayerMap.remove(info.lastSessionId, info);
+                }
+            }
+            info.status = SessionStatus.REMOVED;
+        }
+        playerIndex.remove(info.key, info);
+    }
+}
@@ -0,0 +1,149 @@
+package com.liargame.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.liargame.websocket.CborPayload;
+import com.liargame.websocket.GameMessage;
+import com.liargame.websocket.GameMessageCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 메시지 형식 협상
+ * CONNECT 프레임에 liargame-format:cbor 헤더를 보낸 세션에는 GameMessage 를 CBOR 로 내려보내고,
+ * 그 외 세션(SockJS 등 텍스트 전용 전송 포함)은 기존 JSON 그대로 보낸다.
+ * STOMP 핸들러는 content-type 이 application/octet-stream 인 프레임만 바이너리 프레임으로 보내므로
+ * content-type 은 octet-stream 으로 두고 liargame-format:cbor 헤더로 형식을 알린다.
+ * GameMessageConverter 가 실어 둔 CborPayload 헤더가 있으면 원본 GameMessage 에서 바로 인코딩하고,
+ * 구독자 메시지들이 같은 CborPayload 를 공유하므로 브로드캐스트당 한 번만 인코딩한다.
+ * 헤더가 없는 메시지(relay 브로커를 거친 메시지, GameMessage 가 아닌 payload)는 JSON 을 GameMessage 로 읽어 인코딩한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WireFormatNegotiator implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "liargame-format";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    // data 를 JSON 과 같은 Jackson 설정(모듈, 날짜 형식)으로 쓰는 CBOR 매퍼
+    private ObjectMapper cborMapper;
+    private Counter jsonBytes;
+    private Counter cborBytes;
+
+    @PostConstruct
+    void init() {
+        cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        jsonBytes = Counter.builder("liargame.wire.encoded.bytes")
+                .description("CBOR 로 변환한 메시지의 원래 JSON 크기")
+                .baseUnit("bytes")
+                .tag("format", "json")
+                .register(meterRegistry);
+        cborBytes = Counter.builder("liargame.wire.encoded.bytes")
+                .description("CBOR 로 변환한 메시지의 변환 후 크기")
+                .baseUnit("bytes")
+                .tag("format", "cbor")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (type == null || sessionId == null) {
+            return message;
+        }
+
+        switch (type) {
+            case CONNECT -> {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && "cbor".equalsIgnoreCase(accessor.getFirstNativeHeader(FORMAT_HEADER))) {
+                    cborSessions.add(sessionId);
+                    log.debug("세션 {} 메시지 형식: CBOR", sessionId);
+                }
+                return message;
+            }
+            case DISCONNECT -> {
+                cborSessions.remove(sessionId);
+                return message;
+            }
+            case MESSAGE -> {
+                if (cborSessions.contains(sessionId) && message.getPayload() instanceof byte[] json
+                        && isJson(headers)) {
+                    return toCbor(message, json);
+                }
+                return message;
+            }
+            default -> {
+                return message;
+            }
+        }
+    }
+
+    // 연결이 DISCONNECT 프레임 없이 끊긴 경우
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private Message<?> toCbor(Message<?> message, byte[] json) {
+        CborPayload shared = message.getHeaders().get(CborPayload.HEADER, CborPayload.class);
+        byte[] cbor = shared != null ? shared.encoded() : null;
+        if (cbor == null) {
+            try {
+                GameMessage gameMessage = shared != null
+                        ? shared.message()
+                        : objectMapper.readValue(json, GameMessage.class);
+                cbor = GameMessageCodec.encode(gameMessage, cborMapper);
+            } catch (Exception e) {
+                // 변환할 수 없는 메시지는 JSON 그대로 보낸다 (클라이언트는 content-type 으로 구분)
+                log.warn("CBOR 변환 실패, JSON 으로 전송: {}", e.getMessage());
+                return message;
+            }
+            if (shared != null) {
+                shared.encoded(cbor);
+            }
+            jsonBytes.increment(json.length);
+            cborBytes.increment(cbor.length);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FORMAT_HEADER, "cbor");
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    private static boolean isJson(MessageHeaders headers) {
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        MimeType mimeType = contentType instanceof MimeType m ? m
+                : contentType instanceof String s ? MimeType.valueOf(s) : null;
+        return mimeType != null && MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType);
+    }
+}
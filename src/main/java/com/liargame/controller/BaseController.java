@@ -1,5 +1,7 @@
 package com.liargame.controller;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import lombok.extern.slf4j.Slf4j;
 
@@ -8,6 +10,9 @@ import java.util.function.Supplier;
 
 @Slf4j
 public abstract class BaseController {
+
+    // 같은 방에 대한 다른 명령과 동시에 커밋되어 버전 검사에서 밀린 경우
+    static final String CONFLICT_MESSAGE = "다른 요청과 겹쳐 처리되지 않았습니다. 다시 시도해주세요";
     
     /**
      * 공통 응답 처리 메서드
@@ -19,6 +24,9 @@ public abstract class BaseController {
         try {
             operation.get();
             return ResponseEntity.ok(Map.of("message", successMessage));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Request conflicted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", CONFLICT_MESSAGE));
         } catch (Exception e) {
             log.error("Request failed: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -34,6 +42,9 @@ public abstract class BaseController {
         try {
             operation.run();
             return ResponseEntity.ok(Map.of("message", successMessage));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Request conflicted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", CONFLICT_MESSAGE));
         } catch (Exception e) {
             log.error("Request failed: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
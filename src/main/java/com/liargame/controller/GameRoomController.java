@@ -5,6 +5,8 @@ import com.liargame.domain.entity.Player;
 import com.liargame.service.GameRoomService;
 import com.liargame.service.PlayerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,6 +43,8 @@ public class GameRoomController {
                     "nickname", player.getNickname(),
                     "isHost", player.getIsHost()
             ));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", BaseController.CONFLICT_MESSAGE));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -53,6 +57,8 @@ public class GameRoomController {
         try {
             gameRoomService.startGame(code, hostPlayerId);
             return ResponseEntity.ok(Map.of("message", "게임이 시작되었습니다"));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", BaseController.CONFLICT_MESSAGE));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -0,0 +1,38 @@
+package com.liargame.controller;
+
+import com.liargame.service.RoomOwnership;
+import com.liargame.websocket.GameWebSocketController;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 다른 노드가 전달한 STOMP 게임 액션을 소유 노드에서 처리하는 내부 엔드포인트
+ * 공유 비밀이 없는 요청은 RoomRoutingFilter 가 여기까지 오기 전에 거절한다.
+ */
+@RestController
+@RequestMapping("/internal/rooms/{roomCode}")
+@RequiredArgsConstructor
+public class InternalRoomController extends BaseController {
+
+    private final RoomOwnership roomOwnership;
+    private final GameWebSocketController gameWebSocketController;
+
+    @PostMapping("/{action}")
+    public ResponseEntity<Map<String, String>> handleForwardedAction(
+            @PathVariable String roomCode,
+            @PathVariable String action,
+            @RequestBody Map<String, Object> payload) {
+        return handleVoidRequest(() -> {
+            roomOwnership.acquireForwarded(roomCode);
+            switch (action) {
+                case "desc" -> gameWebSocketController.handleDescription(roomCode, payload);
+                case "vote" -> gameWebSocketController.handleVote(roomCode, payload);
+                case "final-defense" -> gameWebSocketController.handleFinalDefense(roomCode, payload);
+                default -> throw new IllegalArgumentException("알 수 없는 액션입니다: " + action);
+            }
+        }, "처리되었습니다");
+    }
+}
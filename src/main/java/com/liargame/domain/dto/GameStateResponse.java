@@ -11,6 +11,9 @@ import java.util.List;
 @Data
 @Builder
 public class GameStateResponse {
+    // 이 상태가 반영된 마지막 ROOM_STATE 브로드캐스트 순번 (델타 적용 기준)
+    private Long stateSeq;
+
     private String roomCode;
     private GameRoom.RoomState roomState;
     private Integer maxPlayers;
@@ -20,4 +20,8 @@ public class RoomCreateRequest {
     private String themeGroup;
     
     private Integer difficulty;
+    
+    private String locale;
+    
+    private String ageGroup;
 }
\ No newline at end of file
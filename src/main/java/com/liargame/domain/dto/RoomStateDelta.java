@@ -0,0 +1,31 @@
+package com.liargame.domain.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직전 방 상태(seq - 1) 대비 변경분
+ * 클라이언트는 자신의 seq 가 baseSeq 와 다르면 델타를 버리고 전체 상태를 다시 요청한다.
+ */
+@Data
+@Builder
+public class RoomStateDelta {
+    private Long seq;
+    private Long baseSeq;
+
+    // 값이 바뀐 방/라운드 필드 (GameStateResponse 필드명 기준, null 로 바뀐 경우 포함)
+    private Map<String, Object> changes;
+
+    private List<GameStateResponse.PlayerInfo> playersUpserted;
+    private List<Long> playersRemoved;
+
+    // 라운드가 바뀌면 messagesReset 후 messagesAdded 가 전체 목록이 된다
+    private Boolean messagesReset;
+    private List<GameStateResponse.MessageInfo> messagesAdded;
+
+    // 투표 집계는 작으므로 바뀐 경우에만 전체를 보낸다
+    private List<GameStateResponse.VoteInfo> votes;
+}
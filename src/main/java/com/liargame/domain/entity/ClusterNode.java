@@ -0,0 +1,28 @@
+package com.liargame.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cluster_node")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterNode {
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    // 다른 노드가 요청을 전달할 주소
+    @Column(name = "base_url", length = 200, nullable = false)
+    private String baseUrl;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
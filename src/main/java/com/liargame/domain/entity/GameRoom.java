@@ -5,24 +5,30 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "game_room")
+// 방 코드 -> room_id 캐시 (방 자체는 자주 바뀌므로 엔티티는 캐시하지 않는다)
+@NaturalIdCache(region = "liargame.room-code")
+@Table(name = "game_room", uniqueConstraints = @UniqueConstraint(name = "uk_game_room_code", columnNames = "code"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class GameRoom {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_room_seq")
+    @SequenceGenerator(name = "game_room_seq", sequenceName = "game_room_seq", allocationSize = 50)
     @Column(name = "room_id")
     private Long roomId;
 
-    @Column(name = "code", length = 8, unique = true, nullable = false)
+    @NaturalId
+    @Column(name = "code", length = 8, nullable = false)
     private String code;
 
     @Column(name = "max_players", nullable = false)
@@ -9,14 +9,18 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "message_log")
+@Table(name = "message_log", indexes = {
+    @Index(name = "idx_msg_round_type_player", columnList = "round_id, type, player_id"),
+    @Index(name = "idx_msg_room", columnList = "room_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class MessageLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_log_seq")
+    @SequenceGenerator(name = "message_log_seq", sequenceName = "message_log_seq", allocationSize = 50)
     @Column(name = "msg_id")
     private Long msgId;
 
@@ -9,14 +9,16 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "player")
+// 방의 현재 인원/생존자 조회(room_id, left_at IS NULL, is_alive)를 인덱스 하나로 처리
+@Table(name = "player", indexes = @Index(name = "idx_player_room_active", columnList = "room_id, left_at, is_alive"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Player {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50)
     @Column(name = "player_id")
     private Long playerId;
 
@@ -0,0 +1,27 @@
+package com.liargame.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "room_lease", indexes = @Index(name = "idx_room_lease_owner", columnList = "owner_node"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomLease {
+    @Id
+    @Column(name = "room_code", length = 8)
+    private String roomCode;
+
+    @Column(name = "owner_node", length = 64, nullable = false)
+    private String ownerNode;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -12,7 +12,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "round", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"room_id", "idx"})
+    @UniqueConstraint(name = "uk_round_room_idx", columnNames = {"room_id", "idx"})
 })
 @Data
 @NoArgsConstructor
@@ -20,7 +20,8 @@ import java.util.List;
 @Builder
 public class Round {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "round_seq")
+    @SequenceGenerator(name = "round_seq", sequenceName = "round_seq", allocationSize = 50)
     @Column(name = "round_id")
     private Long roundId;
 
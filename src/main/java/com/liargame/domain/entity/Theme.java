@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "theme")
+// 사실상 바뀌지 않는 기준 데이터 - room.getTheme() 지연 로딩을 2차 캐시에서 처리한다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "liargame.theme")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,8 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+// 중복 투표 방지 유니크 인덱스를 (라운드, 투표 종류, 투표자) 순서로 두어 단계별 투표 조회/집계도 같은 인덱스를 쓴다
 @Table(name = "vote", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"round_id", "voter_pid", "is_final_vote"})
+    @UniqueConstraint(name = "uk_vote_round_final_voter", columnNames = {"round_id", "is_final_vote", "voter_pid"})
 })
 @Data
 @NoArgsConstructor
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Vote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_seq")
+    @SequenceGenerator(name = "vote_seq", sequenceName = "vote_seq", allocationSize = 50)
     @Column(name = "vote_id")
     private Long voteId;
 
@@ -2,16 +2,20 @@ package com.liargame.domain.repository;
 
 import com.liargame.domain.entity.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
-    // 방 삭제를 위한 메소드 추가
-    void deleteByRoomId(Long roomId);
+    // 방 삭제: 방들의 감사 로그를 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AuditLog a WHERE a.roomId IN :roomIds")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
\ No newline at end of file
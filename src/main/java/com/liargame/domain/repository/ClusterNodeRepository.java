@@ -0,0 +1,26 @@
+package com.liargame.domain.repository;
+
+import com.liargame.domain.entity.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    // 하트비트가 기준 시각 이후인 노드 = 살아 있는 노드
+    List<ClusterNode> findByHeartbeatAtAfter(LocalDateTime cutoff);
+
+    @Modifying
+    @Query("UPDATE ClusterNode n SET n.baseUrl = :baseUrl, n.heartbeatAt = :now WHERE n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("baseUrl") String baseUrl, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ClusterNode n WHERE n.heartbeatAt < :cutoff")
+    int deleteStale(@Param("cutoff") LocalDateTime cutoff);
+}
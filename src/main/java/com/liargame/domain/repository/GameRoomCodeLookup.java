@@ -0,0 +1,13 @@
+package com.liargame.domain.repository;
+
+import com.liargame.domain.entity.GameRoom;
+
+import java.util.Optional;
+
+/**
+ * 방 코드(자연 키) 조회 - 자연 키 캐시로 코드 -> room_id 를 찾고 방은 ID 로 읽는다
+ */
+public interface GameRoomCodeLookup {
+
+    Optional<GameRoom> findByCode(String code);
+}
@@ -0,0 +1,22 @@
+package com.liargame.domain.repository;
+
+import com.liargame.domain.entity.GameRoom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class GameRoomCodeLookupImpl implements GameRoomCodeLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<GameRoom> findByCode(String code) {
+        // 캐시에 코드가 있으면 코드 조회 쿼리 없이 기본 키로 읽고, 없으면 한 번 조회한 뒤 캐시에 넣는다
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(GameRoom.class)
+                .loadOptional(code);
+    }
+}
@@ -1,19 +1,84 @@
 package com.liargame.domain.repository;
 
 import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.Round;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
-    
-    Optional<GameRoom> findByCode(String code);
+public interface GameRoomRepository extends JpaRepository<GameRoom, Long>, GameRoomCodeLookup {
+
+    // 대기실 명령용: 커밋 시 버전을 올려, 다른 노드에서 같은 방에 동시에 실행된 명령 중 하나는 낙관적 잠금으로 실패하게 한다
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT r FROM GameRoom r WHERE r.code = :code")
+    Optional<GameRoom> findForCommandByCode(@Param("code") String code);
     
     boolean existsByCode(String code);
+
+    // 방 정리: 종료 시각이 기준보다 이른 방을 room_id 키셋으로 한 배치씩 조회
+    @Query("SELECT r.roomId AS roomId, r.code AS code FROM GameRoom r " +
+           "WHERE r.state = :state AND r.endedAt < :cutoff AND r.roomId > :afterId ORDER BY r.roomId")
+    List<RoomKey> findEndedBefore(@Param("state") GameRoom.RoomState state, @Param("cutoff") LocalDateTime cutoff,
+                                  @Param("afterId") Long afterId, Pageable pageable);
+
+    // 방 정리: 생성 시각이 기준보다 이른 방을 room_id 키셋으로 한 배치씩 조회
+    @Query("SELECT r.roomId AS roomId, r.code AS code FROM GameRoom r " +
+           "WHERE r.state = :state AND r.createdAt < :cutoff AND r.roomId > :afterId ORDER BY r.roomId")
+    List<RoomKey> findCreatedBefore(@Param("state") GameRoom.RoomState state, @Param("cutoff") LocalDateTime cutoff,
+                                    @Param("afterId") Long afterId, Pageable pageable);
+
+    // 지표: 상태별 방 수
+    @Query("SELECT r.state AS state, COUNT(r) AS count FROM GameRoom r GROUP BY r.state")
+    List<StateCount> countByState();
+
+    // 방 삭제: 딸린 행을 모두 지운 뒤 마지막에 호출
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GameRoom r WHERE r.roomId IN :roomIds")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 방 상태 조회용: 방, 테마 그룹, 현재 라운드를 한 번에 조회
+    @Query("SELECT r.roomId AS roomId, r.code AS code, r.state AS state, r.maxPlayers AS maxPlayers, " +
+           "r.roundLimit AS roundLimit, r.currentRound AS currentRound, t.themeGroup AS themeGroup, " +
+           "r.createdAt AS createdAt, rd.roundId AS roundId, rd.state AS roundState, " +
+           "rd.startedAt AS roundStartedAt, rd.accusedPlayerId AS accusedPlayerId " +
+           "FROM GameRoom r LEFT JOIN r.theme t " +
+           "LEFT JOIN Round rd ON rd.room = r AND rd.idx = r.currentRound " +
+           "WHERE r.code = :code")
+    Optional<RoomStateHeader> findStateHeaderByCode(@Param("code") String code);
+
+    interface RoomKey {
+        Long getRoomId();
+        String getCode();
+    }
+
+    interface StateCount {
+        GameRoom.RoomState getState();
+        Long getCount();
+    }
+
+    interface RoomStateHeader {
+        Long getRoomId();
+        String getCode();
+        GameRoom.RoomState getState();
+        Integer getMaxPlayers();
+        Integer getRoundLimit();
+        Integer getCurrentRound();
+        String getThemeGroup();
+        LocalDateTime getCreatedAt();
+        Long getRoundId();
+        Round.RoundState getRoundState();
+        LocalDateTime getRoundStartedAt();
+        Long getAccusedPlayerId();
+    }
 }
\ No newline at end of file
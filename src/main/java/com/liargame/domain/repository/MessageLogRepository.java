@@ -1,10 +1,14 @@
 package com.liargame.domain.repository;
 
 import com.liargame.domain.entity.MessageLog;
-import com.liargame.domain.entity.Round;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,9 +16,33 @@ public interface MessageLogRepository extends JpaRepository<MessageLog, Long> {
     
     List<MessageLog> findByRoundRoundIdOrderByCreatedAtAsc(Long roundId);
     
-    void deleteByRoundRoundId(Long roundId);
+    // 방 삭제: 방들의 모든 발언 로그를 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MessageLog m WHERE m.roomId IN :roomIds")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 
-    void deleteByRoomId(Long roomId);
+    // 게임 중단: 라운드에 속한 발언만 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MessageLog m WHERE m.roomId IN :roomIds AND m.round IS NOT NULL")
+    int bulkDeleteRoundMessagesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 
-    List<MessageLog> findByRoomIdAndRoundAndType(Long roomId, Round round, MessageLog.MessageType messageType);
+    // 라운드의 발언 종류별 조회 - round_id 가 방을 정하므로 room_id 조건 없이 idx_msg_round_type_player 로 찾는다
+    @Query("SELECT m FROM MessageLog m WHERE m.round.roundId = :roundId AND m.type = :type ORDER BY m.createdAt ASC")
+    List<MessageLog> findByRoundIdAndType(@Param("roundId") Long roundId, @Param("type") MessageLog.MessageType type);
+
+    // 방 상태 조회용: 발언과 작성자 닉네임을 한 번에 조회 (지연 로딩 없이)
+    @Query("SELECT p.playerId AS playerId, p.nickname AS nickname, m.text AS text, m.summary AS summary, " +
+           "m.type AS type, m.createdAt AS createdAt " +
+           "FROM MessageLog m LEFT JOIN m.player p " +
+           "WHERE m.round.roundId = :roundId ORDER BY m.createdAt ASC")
+    List<MessageView> findViewsByRoundId(@Param("roundId") Long roundId);
+
+    interface MessageView {
+        Long getPlayerId();
+        String getNickname();
+        String getText();
+        String getSummary();
+        MessageLog.MessageType getType();
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
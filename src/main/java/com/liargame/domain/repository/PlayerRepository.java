@@ -3,34 +3,36 @@ package com.liargame.domain.repository;
 import com.liargame.domain.entity.Player;
 import com.liargame.domain.entity.GameRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     
-    @Query("SELECT p FROM Player p WHERE p.room.code = :roomCode AND p.leftAt IS NULL")
-    List<Player> findByRoomCodeAndLeftAtIsNull(@Param("roomCode") String roomCode);
+    // 방 코드는 호출한 쪽에서 room_id 로 한 번만 바꿔 넘긴다 - game_room 조인 없이 idx_player_room_active 로 찾는다
+    @Query("SELECT p FROM Player p WHERE p.room.roomId = :roomId AND p.leftAt IS NULL")
+    List<Player> findActiveByRoomId(@Param("roomId") Long roomId);
     
-    @Query("SELECT p FROM Player p WHERE p.room.code = :roomCode AND p.isAlive = true AND p.leftAt IS NULL")
-    List<Player> findAlivePlayersByRoomCode(@Param("roomCode") String roomCode);
+    @Query("SELECT p FROM Player p WHERE p.room.roomId = :roomId AND p.leftAt IS NULL AND p.isAlive = true")
+    List<Player> findAliveByRoomId(@Param("roomId") Long roomId);
     
-    @Query("SELECT COUNT(p) > 0 FROM Player p WHERE p.room.code = :roomCode AND p.nickname = :nickname AND p.leftAt IS NULL")
-    boolean existsByRoomCodeAndNicknameAndLeftAtIsNull(@Param("roomCode") String roomCode, @Param("nickname") String nickname);
-
-    @Query("SELECT p FROM Player p WHERE p.room.code = :roomCode AND p.leftAt IS NULL AND p.isAlive = true")
-    List<Player> findByRoomCodeAndLeftAtIsNullAndIsAliveTrue(@Param("roomCode") String roomCode);
+    @Query("SELECT COUNT(p) > 0 FROM Player p WHERE p.room.roomId = :roomId AND p.leftAt IS NULL AND p.nickname = :nickname")
+    boolean existsActiveByRoomIdAndNickname(@Param("roomId") Long roomId, @Param("nickname") String nickname);
 
     // GamePlayService에서 필요한 메소드들 추가
     List<Player> findByRoomAndIsAlive(GameRoom room, boolean isAlive);
     
     Optional<Player> findByRoomAndRole(GameRoom room, Player.PlayerRole role);
     
-    // 방 삭제를 위한 메소드 추가
-    void deleteByRoomRoomId(Long roomId);
+    // 방 삭제: 방들의 플레이어를 한 번에 삭제 (투표/발언을 먼저 지워야 함)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Player p WHERE p.room.roomId IN :roomIds")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
     
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.liargame.domain.repository;
+
+import com.liargame.domain.entity.RoomLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomLeaseRepository extends JpaRepository<RoomLease, String> {
+
+    // 임대 획득: 내가 이미 갖고 있거나 만료된 경우에만 소유자를 바꾼다 (조건부 UPDATE 한 번으로 경쟁 판정)
+    @Modifying
+    @Query("UPDATE RoomLease l SET l.ownerNode = :node, l.expiresAt = :expiresAt " +
+           "WHERE l.roomCode = :code AND (l.ownerNode = :node OR l.expiresAt < :now)")
+    int claim(@Param("code") String code, @Param("node") String node,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 임대 갱신: 아직 내 것인 임대만 연장
+    @Modifying
+    @Query("UPDATE RoomLease l SET l.expiresAt = :expiresAt WHERE l.ownerNode = :node AND l.roomCode IN :codes")
+    int renew(@Param("node") String node, @Param("codes") Collection<String> codes,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT l.roomCode FROM RoomLease l WHERE l.ownerNode = :node AND l.roomCode IN :codes")
+    List<String> findHeldCodes(@Param("node") String node, @Param("codes") Collection<String> codes);
+
+    // write-behind 펜스: 아직 살아 있는 내 임대 행을 잠가, 반영 트랜잭션이 끝날 때까지 다른 노드의 claim 이 기다리게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM RoomLease l WHERE l.ownerNode = :node AND l.roomCode IN :codes AND l.expiresAt > :now")
+    List<RoomLease> lockLiveLeases(@Param("node") String node, @Param("codes") Collection<String> codes,
+                                   @Param("now") LocalDateTime now);
+
+    @Query("SELECT l.ownerNode FROM RoomLease l WHERE l.roomCode = :code AND l.expiresAt > :now")
+    Optional<String> findLiveOwner(@Param("code") String code, @Param("now") LocalDateTime now);
+
+    // 방 정리: 다른 노드가 살아 있는 임대를 가진 방
+    @Query("SELECT l.roomCode FROM RoomLease l " +
+           "WHERE l.roomCode IN :codes AND l.ownerNode <> :node AND l.expiresAt > :now")
+    List<String> findLeasedElsewhere(@Param("codes") Collection<String> codes, @Param("node") String node,
+                                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RoomLease l WHERE l.ownerNode = :node AND l.roomCode IN :codes")
+    int release(@Param("node") String node, @Param("codes") Collection<String> codes);
+}
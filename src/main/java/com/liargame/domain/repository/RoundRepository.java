@@ -3,24 +3,29 @@ package com.liargame.domain.repository;
 import com.liargame.domain.entity.GameRoom;
 import com.liargame.domain.entity.Round;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoundRepository extends JpaRepository<Round, Long> {
 
-    @Query("SELECT r FROM Round r WHERE r.room.code = :roomCode ORDER BY r.idx ASC")
-    List<Round> findByRoomCodeOrderByIdxAsc(@Param("roomCode") String roomCode);
+    // room_id 로 바로 조회 - (room_id, idx) 유니크 인덱스만 본다
+    @Query("SELECT r FROM Round r WHERE r.room.roomId = :roomId ORDER BY r.idx ASC")
+    List<Round> findByRoomIdOrderByIdxAsc(@Param("roomId") Long roomId);
     
-    @Query("SELECT r FROM Round r WHERE r.room.code = :roomCode AND r.idx = :idx")
-    Optional<Round> findByRoomCodeAndIdx(@Param("roomCode") String roomCode, @Param("idx") Integer idx);
+    @Query("SELECT r FROM Round r WHERE r.room.roomId = :roomId AND r.idx = :idx")
+    Optional<Round> findByRoomIdAndIdx(@Param("roomId") Long roomId, @Param("idx") Integer idx);
     
     Optional<Round> findByRoomAndIdx(GameRoom room, Integer idx);
     
-    // 방 삭제를 위한 메소드 추가
-    void deleteByRoomRoomId(Long roomId);
+    // 방 삭제: 방들의 라운드를 한 번에 삭제 (투표/발언을 먼저 지워야 함)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Round r WHERE r.room.roomId IN :roomIds")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import com.liargame.domain.entity.Vote;
 import com.liargame.domain.entity.Round;
 import com.liargame.domain.entity.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +33,22 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     
     long countByRoundAndIsFinalVote(Round round, boolean isFinalVote);
     
-    // 방 삭제를 위한 메소드들 추가
-    void deleteByRoundRoundId(Long roundId);
+    // 방 상태 조회용: 대상별 득표와 대상 닉네임을 한 번에 조회
+    @Query("SELECT t.playerId AS targetPlayerId, t.nickname AS targetNickname, COUNT(v) AS voteCount " +
+           "FROM Vote v JOIN v.target t " +
+           "WHERE v.round.roundId = :roundId AND v.isFinalVote = :isFinalVote " +
+           "GROUP BY t.playerId, t.nickname")
+    List<VoteCountView> countVotesWithTargetByRoundId(@Param("roundId") Long roundId, @Param("isFinalVote") Boolean isFinalVote);
+    
+    // 방 삭제: 방들의 모든 라운드 투표를 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Vote v WHERE v.round.roundId IN " +
+           "(SELECT r.roundId FROM Round r WHERE r.room.roomId IN :roomIds)")
+    int bulkDeleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    interface VoteCountView {
+        Long getTargetPlayerId();
+        String getTargetNickname();
+        Long getVoteCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.liargame.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 배치 기록기
+ * 호출 스레드는 큐에 넣기만 하고, 전용 스레드가 크기/시간 조건에 따라 JDBC 배치 INSERT 로 기록한다.
+ * 큐가 가득 차면 게임 진행을 막지 않도록 해당 로그를 버리고 dropped 카운터를 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogSink {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_log (room_id, player_id, action, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${liargame.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${liargame.audit.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<Entry> queue;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    private Counter droppedCounter;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("liargame.audit.queue.depth", queue, BlockingQueue::size)
+                .description("기록 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("liargame.audit.dropped")
+                .description("큐 포화로 버려진 감사 로그 수")
+                .register(meterRegistry);
+        writtenCounter = Counter.builder("liargame.audit.written")
+                .description("DB 에 기록된 감사 로그 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("liargame.audit.failed")
+                .description("배치 INSERT 실패로 유실된 감사 로그 수")
+                .register(meterRegistry);
+
+        writer = new Thread(this::run, "audit-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("감사 로그 기록기 시작: 큐 {}건, 배치 {}건, 주기 {}ms", queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        // 종료 시 큐에 남은 로그를 모두 기록한 뒤 멈춘다
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("감사 로그 기록기 종료 시 미기록 로그 {}건", queue.size());
+        }
+    }
+
+    /**
+     * 감사 로그 기록 요청
+     * 트랜잭션 안에서 호출되면 커밋된 경우에만 큐에 넣어, 롤백된 액션의 로그가 남지 않게 한다.
+     */
+    public void record(Long roomId, Long playerId, String action, String payload) {
+        Entry entry = new Entry(roomId, playerId, action, payload, LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(entry);
+                }
+            });
+        } else {
+            offer(entry);
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    private void offer(Entry entry) {
+        if (!queue.offer(entry)) {
+            droppedCounter.increment();
+            log.debug("감사 로그 큐 포화로 버림: 방 {}, 액션 {}", entry.roomId(), entry.action());
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long wait = Math.max(1, deadline - System.currentTimeMillis());
+                Entry entry = queue.poll(wait, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    batch.add(entry);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                // 배치 크기에 도달했거나 주기가 지났으면 기록
+                boolean full = batch.size() >= batchSize;
+                boolean due = System.currentTimeMillis() >= deadline;
+                if (full || due || !running) {
+                    write(batch);
+                    batch.clear();
+                    deadline = System.currentTimeMillis() + flushIntervalMs;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        write(batch);
+    }
+
+    private void write(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, entry.roomId(), Types.BIGINT);
+                ps.setObject(2, entry.playerId(), Types.BIGINT);
+                ps.setString(3, entry.action());
+                ps.setString(4, entry.payload());
+                ps.setTimestamp(5, Timestamp.valueOf(entry.createdAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("감사 로그 배치 기록 실패: {}건, 오류: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private record Entry(Long roomId, Long playerId, String action, String payload, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.ClusterNode;
+import com.liargame.domain.repository.ClusterNodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 클러스터 노드 목록과 방 코드 일관 해시 링
+ * 각 노드는 cluster_node 테이블에 주기적으로 하트비트를 남기고, 하트비트가 node-ttl 안에 있는 노드들로 링을 만든다.
+ * 노드마다 virtual-nodes 개의 점을 링에 올리므로 노드가 들고 나도 다른 노드로 옮겨지는 방은 그 노드 몫뿐이다.
+ * liargame.cluster.enabled 가 false 면 하트비트를 남기지 않고 모든 방을 이 노드가 맡는다.
+ * 노드 사이에 전달되는 요청은 모든 노드가 같은 값으로 가진 peer-secret 으로 인증한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMembership {
+
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${liargame.cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${liargame.cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${liargame.cluster.advertised-url:}")
+    private String advertisedUrl;
+
+    @Value("${liargame.cluster.node-ttl-ms:15000}")
+    private long nodeTtlMs;
+
+    @Value("${liargame.cluster.virtual-nodes:64}")
+    private int virtualNodes;
+
+    @Value("${liargame.cluster.peer-secret:}")
+    private String peerSecret;
+
+    private String nodeId;
+    private volatile String baseUrl;
+    private volatile Ring ring = Ring.EMPTY;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        if (enabled && peerSecret.isBlank()) {
+            throw new IllegalStateException("liargame.cluster.enabled 이면 liargame.cluster.peer-secret 을 설정해야 합니다");
+        }
+        nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : configuredNodeId;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!advertisedUrl.isBlank()) {
+            baseUrl = advertisedUrl;
+        }
+    }
+
+    // 주소를 따로 지정하지 않았으면 실제로 열린 포트로 정한다 (server.port=0 대응)
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (baseUrl == null) {
+            baseUrl = "http://localhost:" + event.getWebServer().getPort();
+        }
+        if (enabled) {
+            log.info("클러스터 노드 시작: {} ({})", nodeId, baseUrl);
+            heartbeat();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) {
+            return;
+        }
+        // 정상 종료 시 바로 링에서 빠져 다른 노드가 하트비트 만료를 기다리지 않게 한다
+        try {
+            transactionTemplate.executeWithoutResult(status -> clusterNodeRepository.deleteById(nodeId));
+        } catch (Exception e) {
+            log.warn("클러스터 노드 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${liargame.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!enabled || baseUrl == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<ClusterNode> nodes = transactionTemplate.execute(status -> {
+                if (clusterNodeRepository.heartbeat(nodeId, baseUrl, now) == 0) {
+                    clusterNodeRepository.save(ClusterNode.builder()
+                            .nodeId(nodeId)
+                            .baseUrl(baseUrl)
+                            .heartbeatAt(now)
+                            .build());
+                }
+                // 오래전에 죽은 노드 행은 정리
+                clusterNodeRepository.deleteStale(now.minus(Duration.ofMillis(nodeTtlMs * 4)));
+                return clusterNodeRepository.findByHeartbeatAtAfter(now.minus(Duration.ofMillis(nodeTtlMs)));
+            });
+            updateRing(nodes);
+        } catch (Exception e) {
+            // 하트비트를 못 남겨도 기존 링으로 계속 동작하고, 임대가 만료되면 다른 노드가 방을 넘겨받는다
+            log.warn("클러스터 하트비트 실패: {}", e.getMessage());
+        }
+    }
+
+    private void updateRing(List<ClusterNode> nodes) {
+        Map<String, String> urls = new TreeMap<>();
+        for (ClusterNode node : nodes) {
+            urls.put(node.getNodeId(), node.getBaseUrl());
+        }
+        urls.put(nodeId, baseUrl);
+
+        Ring current = ring;
+        if (current.urls.equals(urls)) {
+            return;
+        }
+        ring = Ring.of(urls, virtualNodes);
+        log.info("클러스터 노드 변경: {} -> {}", current.urls.keySet(), urls.keySet());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getPeerSecret() {
+        return peerSecret;
+    }
+
+    /**
+     * 전달된 요청이 같은 클러스터의 노드가 보낸 것인지 (클러스터 모드가 아니면 항상 false)
+     */
+    public boolean isTrustedPeer(String presentedSecret) {
+        return enabled && presentedSecret != null
+                && MessageDigest.isEqual(peerSecret.getBytes(StandardCharsets.UTF_8),
+                        presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 링에서 방 코드가 속한 노드 (링이 비어 있으면 이 노드)
+     */
+    public String ownerOf(String roomCode) {
+        Ring current = ring;
+        if (current.points.isEmpty()) {
+            return nodeId;
+        }
+        Map.Entry<Long, String> entry = current.points.ceilingEntry(hash(roomCode));
+        return entry != null ? entry.getValue() : current.points.firstEntry().getValue();
+    }
+
+    // 살아 있는 노드의 주소 (모르는 노드면 null)
+    public String urlOf(String node) {
+        return ring.urls.get(node);
+    }
+
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xFF);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static final class Ring {
+        static final Ring EMPTY = new Ring(new TreeMap<>(), Map.of());
+
+        final TreeMap<Long, String> points;
+        final Map<String, String> urls;
+
+        private Ring(TreeMap<Long, String> points, Map<String, String> urls) {
+            this.points = points;
+            this.urls = urls;
+        }
+
+        static Ring of(Map<String, String> urls, int virtualNodes) {
+            TreeMap<Long, String> points = new TreeMap<>();
+            for (String node : urls.keySet()) {
+                for (int i = 0; i < virtualNodes; i++) {
+                    points.put(hash(node + "#" + i), node);
+                }
+            }
+            return new Ring(points, Collections.unmodifiableMap(urls));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.liargame.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 를 직접 변경하는 서비스 메서드 표시 - 첫 번째 인자는 방 코드여야 한다.
+ * LiveRoomDetachAspect 가 트랜잭션을 열기 전에 write-behind 큐를 비우고 메모리 상태를 내린다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DetachesLiveRoom {
+}
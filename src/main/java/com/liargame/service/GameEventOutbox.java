@@ -0,0 +1,307 @@
+package com.liargame.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liargame.websocket.GameMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 이벤트 트랜잭셔널 아웃박스
+ * RoomEventDispatcher 가 트랜잭션 커밋 직전에 그 트랜잭션의 이벤트를 outbox_event 에 JDBC 배치로 함께 기록하고,
+ * 커밋 뒤 직접 발행한 다음 기록을 지운다 (삭제는 전용 스레드에서 모아서, 실패한 묶음은 다시 시도).
+ * 발행 전에 노드가 죽어 남은 이벤트는 RoomEventDispatcher 의 relay 가 stale-after-ms 뒤에 ID 순서(방별 기록 순서)대로
+ * 방 발행 잠금을 잡고 다시 발행한다. 이 노드에서 아직 커밋/발행 중인 이벤트보다 뒤의 행과 발행을 마치고 삭제를 기다리는 행은
+ * relay 대상에서 빠지며, 행을 지운 노드만 발행하므로 여러 노드가 함께 돌아도 한 번만 나간다.
+ * 그래도 겹쳐 나간 이벤트는 GameMessage 의 eventId 로 클라이언트가 걸러낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameEventOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (room_code, destination, type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${liargame.outbox.stale-after-ms:10000}")
+    private long staleAfterMs;
+
+    @Value("${liargame.outbox.relay-batch-size:200}")
+    private int relayBatchSize;
+
+    private final BlockingQueue<Long> published = new ArrayBlockingQueue<>(50_000);
+
+    // 이 노드에서 기록했지만 아직 발행을 마치지 않은 이벤트 (커밋 중이거나 커밋 뒤 발행 중)
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+    // 발행을 마치고 삭제를 기다리는 이벤트 (대기열 + 삭제 중인 묶음)
+    private final Set<Long> pendingDelete = ConcurrentHashMap.newKeySet();
+
+    private Thread cleaner;
+    private volatile boolean running = true;
+
+    private Counter recordedCounter;
+    private Counter relayedCounter;
+
+    @PostConstruct
+    void start() {
+        recordedCounter = Counter.builder("liargame.outbox.recorded")
+                .description("아웃박스에 기록된 이벤트 수")
+                .register(meterRegistry);
+        relayedCounter = Counter.builder("liargame.outbox.relayed")
+                .description("커밋 뒤 발행되지 못해 relay 가 다시 발행한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("liargame.outbox.cleanup.pending", pendingDelete, Set::size)
+                .description("발행 후 삭제 대기 중인 아웃박스 행 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            cleaner = new Thread(this::runCleaner, "outbox-cleaner");
+            cleaner.setDaemon(true);
+            cleaner.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (cleaner != null) {
+            try {
+                cleaner.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트를 현재 트랜잭션에 기록하고 생성된 ID 를 기록 순서대로 반환
+     */
+    public List<Long> append(List<Event> events) {
+        if (!enabled || events.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> payloads = new ArrayList<>(events.size());
+        for (Event event : events) {
+            payloads.add(toJson(event.message()));
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"event_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Event event = events.get(i);
+                        ps.setString(1, event.roomCode());
+                        ps.setString(2, event.destination());
+                        ps.setString(3, event.message().getType());
+                        ps.setString(4, payloads.get(i));
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keys);
+        recordedCounter.increment(events.size());
+
+        List<Long> ids = new ArrayList<>(events.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            // 드라이버마다 키 컬럼 이름의 대소문자가 다르다
+            Object id = row.entrySet().stream()
+                    .filter(column -> column.getKey().equalsIgnoreCase("event_id"))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseGet(() -> row.values().iterator().next());
+            ids.add(((Number) id).longValue());
+        }
+        inFlight.addAll(ids);
+        return ids;
+    }
+
+    /**
+     * 커밋 뒤 발행을 마친 이벤트 - 전용 스레드가 모아서 지운다
+     * 삭제 대기열이 가득 차면 자리가 날 때까지 기다린다 (ID 를 버리면 relay 가 같은 이벤트를 다시 발행한다).
+     */
+    public void markPublished(List<Long> ids) {
+        boolean interrupted = false;
+        for (Long id : ids) {
+            // relay 가 두 집합 사이에서 이 행을 보지 않도록 삭제 대기에 먼저 넣는다
+            pendingDelete.add(id);
+            inFlight.remove(id);
+            while (true) {
+                try {
+                    published.put(id);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 트랜잭션이 끝난 이벤트를 발행 중 목록에서 제거
+     * 롤백된 이벤트는 행이 없고, 발행하지 못한 커밋된 이벤트는 relay 가 다시 발행한다.
+     */
+    public void release(List<Long> ids) {
+        ids.forEach(inFlight::remove);
+    }
+
+    /**
+     * 커밋 뒤 발행되지 못하고 남은 이벤트 (ID 순서)
+     * 이 노드에서 아직 발행 중인 가장 오래된 이벤트 이후의 행과 삭제를 기다리는 행은 제외한다.
+     */
+    public List<StaleEvent> findStale() {
+        if (!enabled) {
+            return List.of();
+        }
+        Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs)));
+        Long oldestInFlight = inFlight.ceiling(Long.MIN_VALUE);
+        List<StoredEvent> rows = jdbcTemplate.query(
+                "SELECT event_id, room_code, destination, payload FROM outbox_event "
+                        + "WHERE created_at < ? AND event_id < ? "
+                        + "ORDER BY event_id LIMIT ?",
+                (rs, rowNum) -> new StoredEvent(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                staleBefore, oldestInFlight != null ? oldestInFlight : Long.MAX_VALUE, relayBatchSize);
+
+        List<StaleEvent> stale = new ArrayList<>(rows.size());
+        for (StoredEvent row : rows) {
+            if (pendingDelete.contains(row.eventId())) {
+                continue;
+            }
+            GameMessage message = toMessage(row.eventId(), row.payload());
+            if (message != null) {
+                stale.add(new StaleEvent(row.eventId(), new Event(row.roomCode(), row.destination(), message)));
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * relay 로 다시 발행할 행을 지운다 - 지운 노드만 발행한다
+     */
+    public boolean claim(long eventId) {
+        if (jdbcTemplate.update(DELETE_SQL, eventId) != 1) {
+            return false;
+        }
+        relayedCounter.increment();
+        return true;
+    }
+
+    private String toJson(GameMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다: " + message.getType(), e);
+        }
+    }
+
+    // 읽을 수 없는 행은 다시 발행할 수 없으므로 지운다
+    private GameMessage toMessage(long eventId, String payload) {
+        try {
+            GameMessage message = objectMapper.readValue(payload, GameMessage.class);
+            message.setEventId(eventId);
+            return message;
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 {} 역직렬화 실패, 삭제: {}", eventId, e.getMessage());
+            jdbcTemplate.update(DELETE_SQL, eventId);
+            return null;
+        }
+    }
+
+    private void runCleaner() {
+        List<Long> batch = new ArrayList<>(500);
+        long backoffMs = 0;
+        while (running || !published.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    Long id = published.poll(200, TimeUnit.MILLISECONDS);
+                    if (id == null) {
+                        continue;
+                    }
+                    batch.add(id);
+                    published.drainTo(batch, 499);
+                }
+                jdbcTemplate.batchUpdate(DELETE_SQL, batch, batch.size(), (ps, eventId) -> ps.setLong(1, eventId));
+                batch.forEach(pendingDelete::remove);
+                batch.clear();
+                backoffMs = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 실패한 묶음은 버리지 않고 잠시 뒤 다시 지운다 (버리면 relay 가 이미 발행한 이벤트를 다시 보낸다)
+                backoffMs = Math.min(Math.max(backoffMs * 2, 200), 10_000);
+                log.error("아웃박스 삭제 실패: {}건, {}ms 뒤 재시도, 오류: {}", batch.size(), backoffMs, e.getMessage());
+                if (!running) {
+                    break;
+                }
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 방 코드와 보낼 대상 (destination 이 null 이면 방 토픽)
+     */
+    public record Event(String roomCode, String destination, GameMessage message) {
+    }
+
+    public record StaleEvent(long eventId, Event event) {
+    }
+
+    private record StoredEvent(long eventId, String roomCode, String destination, String payload) {
+    }
+}
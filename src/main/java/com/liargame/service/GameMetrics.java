@@ -0,0 +1,93 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.Round;
+import com.liargame.domain.repository.GameRoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 진행 지표
+ * - liargame.rooms{state}: 상태별 방 수 (스크랩마다 DB 를 치지 않도록 주기적으로 한 번 GROUP BY 조회)
+ * - liargame.round.phase{state}: 라운드가 각 RoundState 에 머문 시간 히스토그램
+ * 라운드 상태 변경은 모두 write-behind 를 거치므로 그 지점에서 전환을 알려 준다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameMetrics {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<GameRoom.RoomState, AtomicLong> roomCounts = new EnumMap<>(GameRoom.RoomState.class);
+    private final Map<Round.RoundState, Timer> phaseTimers = new EnumMap<>(Round.RoundState.class);
+
+    // 방 코드 -> 현재 라운드 상태와 진입 시각
+    private final ConcurrentHashMap<String, Phase> phases = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        for (GameRoom.RoomState state : GameRoom.RoomState.values()) {
+            AtomicLong count = new AtomicLong();
+            roomCounts.put(state, count);
+            Gauge.builder("liargame.rooms", count, AtomicLong::get)
+                    .description("상태별 방 수")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+        for (Round.RoundState state : Round.RoundState.values()) {
+            phaseTimers.put(state, Timer.builder("liargame.round.phase")
+                    .description("라운드가 해당 상태에 머문 시간")
+                    .tag("state", state.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${liargame.metrics.room-count-interval-ms:15000}")
+    public void refreshRoomCounts() {
+        Map<GameRoom.RoomState, Long> counts = new EnumMap<>(GameRoom.RoomState.class);
+        gameRoomRepository.countByState().forEach(c -> counts.put(c.getState(), c.getCount()));
+        roomCounts.forEach((state, gauge) -> gauge.set(counts.getOrDefault(state, 0L)));
+    }
+
+    // 새 라운드 시작 - 이전 라운드의 남은 상태는 기록하지 않는다
+    public void roundStarted(String roomCode, Round.RoundState state) {
+        phases.put(roomCode, new Phase(state, System.nanoTime()));
+    }
+
+    // 라운드 상태 전환 - 직전 상태에 머문 시간을 기록하고, END 면 추적을 끝낸다
+    public void roundStateChanged(String roomCode, Round.RoundState state) {
+        long now = System.nanoTime();
+        phases.compute(roomCode, (code, previous) -> {
+            if (previous != null && previous.state() == state) {
+                return previous;
+            }
+            if (previous != null) {
+                phaseTimers.get(previous.state()).record(now - previous.enteredAt(), TimeUnit.NANOSECONDS);
+            }
+            return state == Round.RoundState.END ? null : new Phase(state, now);
+        });
+    }
+
+    // 게임 중단/방 삭제
+    public void forgetRoom(String roomCode) {
+        phases.remove(roomCode);
+    }
+
+    private record Phase(Round.RoundState state, long enteredAt) {
+    }
+}
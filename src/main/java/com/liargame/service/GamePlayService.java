@@ -2,8 +2,8 @@ package com.liargame.service;
 
 import com.liargame.domain.entity.*;
 import com.liargame.domain.repository.*;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import com.liargame.websocket.GameMessage;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,111 +11,125 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "liargame.service", histogram = true)
 public class GamePlayService {
 
-    private final GameRoomRepository gameRoomRepository;
-    private final PlayerRepository playerRepository;
-    private final RoundRepository roundRepository;
-    private final VoteRepository voteRepository;
-    private final MessageLogRepository messageLogRepository;
-    private final AuditLogRepository auditLogRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final AuditLogSink auditLogSink;
+    private final RoomEventDispatcher roomEventDispatcher;
     private final GameRoomService gameRoomService;
+    private final LiveRoomStore liveRoomStore;
+    private final LiveRoomWriteBehind writeBehind;
+    private final RoomScheduler roomScheduler;
+    private final RoomCommandLocks roomCommandLocks;
+    private final RoomOwnership roomOwnership;
 
     public void submitDescription(String roomCode, Long playerId, String description) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            GameRoom room = live.getRoom();
 
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
-
-        if (!player.getIsAlive()) {
-            throw new RuntimeException("사망한 플레이어는 발언할 수 없습니다");
-        }
+            Player player = live.findPlayer(playerId)
+                    .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다. 방 코드: " + roomCode + ", 라운드: " + room.getCurrentRound()));
-
-        MessageLog message = MessageLog.builder()
-                .roomId(room.getRoomId())
-                .round(currentRound)
-                .player(player)
-                .type(MessageLog.MessageType.DESC)
-                .text(description)
-                .summary(generateSummary(description))
-                .build();
+            if (!player.getIsAlive()) {
+                throw new RuntimeException("사망한 플레이어는 발언할 수 없습니다");
+            }
 
-        messageLogRepository.save(message);
+            Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다. 방 코드: " + roomCode + ", 라운드: " + room.getCurrentRound());
 
-        logAudit(room.getRoomId(), playerId, "DESC_SUBMIT", description);
+            LiveRoom.LiveMessage message = new LiveRoom.LiveMessage(playerId, player.getNickname(),
+                    MessageLog.MessageType.DESC, description, generateSummary(description), LocalDateTime.now());
+            live.addMessage(message);
+            writeBehind.insertMessage(roomCode, room.getRoomId(), currentRound, message);
 
-        // 실시간으로 다른 플레이어들에게 설명 업데이트 전송
-        sendDescriptionUpdate(roomCode, player, description);
+            logAudit(room.getRoomId(), playerId, "DESC_SUBMIT", description);
 
-        // 모든 플레이어가 설명을 제출했는지 확인
-        checkAllDescriptionsComplete(room, currentRound);
+            // 실시간으로 다른 플레이어들에게 설명 업데이트 전송
+            sendDescriptionUpdate(roomCode, player, description);
 
+            // 모든 플레이어가 설명을 제출했는지 확인
+            checkAllDescriptionsComplete(live, currentRound);
+        } finally {
+            live.unlock();
+        }
     }
 
     public void submitVote(String roomCode, Long voterId, Long targetId, boolean isFinalVote) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            GameRoom room = live.getRoom();
 
-        Player voter = playerRepository.findById(voterId)
-                .orElseThrow(() -> new RuntimeException("투표자를 찾을 수 없습니다"));
+            Player voter = live.findPlayer(voterId)
+                    .orElseThrow(() -> new RuntimeException("투표자를 찾을 수 없습니다"));
 
-        Player target = playerRepository.findById(targetId)
-                .orElseThrow(() -> new RuntimeException("대상을 찾을 수 없습니다"));
+            Player target = live.findPlayer(targetId)
+                    .orElseThrow(() -> new RuntimeException("대상을 찾을 수 없습니다"));
 
-        if (!voter.getIsAlive()) {
-            throw new RuntimeException("사망한 플레이어는 투표할 수 없습니다");
-        }
+            if (!voter.getIsAlive()) {
+                throw new RuntimeException("사망한 플레이어는 투표할 수 없습니다");
+            }
 
-        if (voterId.equals(targetId)) {
-            throw new RuntimeException("자기 자신에게는 투표할 수 없습니다");
-        }
+            if (voterId.equals(targetId)) {
+                throw new RuntimeException("자기 자신에게는 투표할 수 없습니다");
+            }
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+            Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
-        validateVoteState(currentRound, isFinalVote);
+            validateVoteState(currentRound, isFinalVote);
 
-        if (voteRepository.existsByRoundRoundIdAndVoterPlayerIdAndIsFinalVote(
-                currentRound.getRoundId(), voterId, isFinalVote)) {
-            throw new RuntimeException("이미 투표하셨습니다");
-        }
+            if (live.hasVoted(voterId, isFinalVote)) {
+                throw new RuntimeException("이미 투표하셨습니다");
+            }
 
-        Vote vote = Vote.builder()
-                .round(currentRound)
-                .voter(voter)
-                .target(target)
-                .isFinalVote(isFinalVote)
-                .build();
+            LiveRoom.LiveVote vote = new LiveRoom.LiveVote(voterId, targetId, isFinalVote, null);
+            live.addVote(vote);
+            writeBehind.insertVote(roomCode, currentRound, vote);
 
-        voteRepository.save(vote);
+            logAudit(room.getRoomId(), voterId, isFinalVote ? "FINAL_VOTE" : "VOTE",
+                    String.format("target: %s", target.getNickname()));
 
-        logAudit(room.getRoomId(), voterId, isFinalVote ? "FINAL_VOTE" : "VOTE",
-                String.format("target: %s", target.getNickname()));
+            roomEventDispatcher.send(roomCode, GameMessage.of("VOTE_UPDATE", roomCode, voterId,
+                    voter.getNickname(),
+                    Map.of("targetId", targetId,
+                           "targetNickname", target.getNickname(),
+                           "isFinalVote", isFinalVote)));
 
-        checkVoteCompletion(room, currentRound, isFinalVote);
+            checkVoteCompletion(live, currentRound, isFinalVote);
+        } finally {
+            live.unlock();
+        }
     }
 
     public void submitFinalDefense(String roomCode, Long playerId, String defense) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            submitFinalDefense(live, playerId, defense);
+        } finally {
+            live.unlock();
+        }
+    }
 
-        Player player = playerRepository.findById(playerId)
+    private void submitFinalDefense(LiveRoom live, Long playerId, String defense) {
+        GameRoom room = live.getRoom();
+        String roomCode = room.getCode();
+
+        Player player = live.findPlayer(playerId)
                 .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
         if (currentRound.getState() != Round.RoundState.FINAL_DEFENSE) {
             throw new RuntimeException("최후진술 단계가 아닙니다");
@@ -125,22 +139,19 @@ public class GamePlayService {
             throw new RuntimeException("지목된 플레이어만 최후진술을 할 수 있습니다");
         }
 
-        MessageLog messageLog = MessageLog.builder()
-                .roomId(room.getRoomId())
-                .round(currentRound)
-                .player(player)
-                .type(MessageLog.MessageType.FINAL_DEFENSE)
-                .text(defense)
-                .summary(generateSummary(defense))
-                .build();
-
-        messageLogRepository.save(messageLog);
+        LiveRoom.LiveMessage message = new LiveRoom.LiveMessage(playerId, player.getNickname(),
+                MessageLog.MessageType.FINAL_DEFENSE, defense, generateSummary(defense), LocalDateTime.now());
+        live.addMessage(message);
+        writeBehind.insertMessage(roomCode, room.getRoomId(), currentRound, message);
 
         logAudit(room.getRoomId(), playerId, "FINAL_DEFENSE", defense);
 
+        roomEventDispatcher.send(roomCode, GameMessage.of("FINAL_DEFENSE_UPDATE", roomCode, playerId,
+                player.getNickname(), Map.of("text", defense)));
+
         // 최후진술 완료 상태로 전환
         currentRound.setState(Round.RoundState.FINAL_DEFENSE_COMPLETE);
-        roundRepository.save(currentRound);
+        writeBehind.updateRound(roomCode, currentRound);
 
         // 브로드캐스트 - 최후진술 완료 (최후진술 내용 포함)
         GameMessage broadcastMessage = GameMessage.of("FINAL_DEFENSE_COMPLETE", roomCode, Map.of(
@@ -150,22 +161,32 @@ public class GamePlayService {
             ),
             "finalDefenseText", defense
         ));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, broadcastMessage);
+        roomEventDispatcher.send(roomCode, broadcastMessage);
     }
 
     public void startFinalVoting(String roomCode, Long hostId) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            startFinalVoting(live, hostId);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    private void startFinalVoting(LiveRoom live, Long hostId) {
+        GameRoom room = live.getRoom();
+        String roomCode = room.getCode();
 
-        Player host = playerRepository.findById(hostId)
+        Player host = live.findPlayer(hostId)
                 .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
 
         if (!host.getIsHost()) {
             throw new RuntimeException("호스트만 재투표를 시작할 수 있습니다");
         }
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
         if (currentRound.getState() != Round.RoundState.FINAL_DEFENSE_COMPLETE) {
             throw new RuntimeException("최후진술 완료 상태가 아닙니다");
@@ -173,10 +194,10 @@ public class GamePlayService {
 
         // 재투표 상태로 전환
         currentRound.setState(Round.RoundState.FINAL_VOTING);
-        roundRepository.save(currentRound);
+        writeBehind.updateRound(roomCode, currentRound);
 
         // 브로드캐스트 - 재투표 시작
-        Player accused = playerRepository.findById(currentRound.getAccusedPlayerId())
+        Player accused = live.findPlayer(currentRound.getAccusedPlayerId())
                 .orElse(null);
 
         broadcastRoundStateChange(roomCode, "FINAL_VOTING", Map.of(
@@ -190,14 +211,24 @@ public class GamePlayService {
     }
 
     public void submitFinalVote(String roomCode, Long voterId, String decision) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            submitFinalVote(live, voterId, decision);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    private void submitFinalVote(LiveRoom live, Long voterId, String decision) {
+        GameRoom room = live.getRoom();
+        String roomCode = room.getCode();
 
-        Player voter = playerRepository.findById(voterId)
+        Player voter = live.findPlayer(voterId)
                 .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
         if (currentRound.getState() != Round.RoundState.FINAL_VOTING) {
             throw new RuntimeException("재투표 단계가 아닙니다");
@@ -213,53 +244,39 @@ public class GamePlayService {
         }
 
         // 중복 투표 검사
-        boolean alreadyVoted = voteRepository.findByRoundAndVoterAndIsFinalVote(
-            currentRound, voter, true).isPresent();
+        boolean alreadyVoted = live.hasVoted(voterId, true);
 
         if (alreadyVoted) {
             throw new RuntimeException("이미 투표하셨습니다");
         }
 
-        Player accused = playerRepository.findById(currentRound.getAccusedPlayerId())
+        Player accused = live.findPlayer(currentRound.getAccusedPlayerId())
                 .orElseThrow(() -> new RuntimeException("지목된 플레이어를 찾을 수 없습니다"));
 
         // 투표 저장 (accused를 target으로, decision 필드에 SURVIVE/ELIMINATE 저장)
-        Vote vote = Vote.builder()
-                .round(currentRound)
-                .voter(voter)
-                .target(accused)
-                .isFinalVote(true)
-                .decision(decision) // SURVIVE 또는 ELIMINATE
-                .build();
-
-        voteRepository.save(vote);
+        LiveRoom.LiveVote vote = new LiveRoom.LiveVote(voterId, accused.getPlayerId(), true, decision);
+        live.addVote(vote);
+        writeBehind.insertVote(roomCode, currentRound, vote);
 
         logAudit(room.getRoomId(), voterId, "FINAL_VOTE",
                 String.format("decision: %s, target: %s", decision, accused.getNickname()));
 
-        // 투표할 수 있는 플레이어 수 확인 (생존자 - 지목당한 플레이어)
-        List<Player> alivePlayers = playerRepository.findByRoomAndIsAlive(room, true);
-        long eligibleVoters = alivePlayers.stream()
-                .filter(p -> !p.getPlayerId().equals(currentRound.getAccusedPlayerId()))
-                .count();
-        long totalVotes = voteRepository.countByRoundAndIsFinalVote(currentRound, true);
-
-        if (totalVotes >= eligibleVoters) {
-            processFinalVoteResults(room, currentRound);
+        // 투표할 수 있는 플레이어(생존자 - 지목당한 플레이어)가 모두 투표했는지 확인
+        // 재투표 단계를 닫을 수 있는 요청은 하나뿐 - 동시에 완료된 투표가 결과를 두 번 내지 않게 한다
+        if (live.getVoteTally(true).isComplete()
+                && live.transitionRound(Round.RoundState.FINAL_VOTING, Round.RoundState.JUDGE)) {
+            processFinalVoteResults(live, currentRound);
         }
     }
 
-    private void processFinalVoteResults(GameRoom room, Round currentRound) {
-        List<Vote> finalVotes = voteRepository.findByRoundAndIsFinalVote(currentRound, true);
+    private void processFinalVoteResults(LiveRoom live, Round currentRound) {
+        GameRoom room = live.getRoom();
+        VoteTally tally = live.getVoteTally(true);
 
-        long eliminateVotes = finalVotes.stream()
-                .filter(vote -> "ELIMINATE".equals(vote.getDecision()))
-                .count();
-        long surviveVotes = finalVotes.stream()
-                .filter(vote -> "SURVIVE".equals(vote.getDecision()))
-                .count();
+        long eliminateVotes = tally.getEliminateVotes();
+        long surviveVotes = tally.getSurviveVotes();
 
-        Player accused = playerRepository.findById(currentRound.getAccusedPlayerId())
+        Player accused = live.findPlayer(currentRound.getAccusedPlayerId())
                 .orElseThrow(() -> new RuntimeException("지목된 플레이어를 찾을 수 없습니다"));
 
         Map<String, Object> finalVoteResult = new HashMap<>();
@@ -271,7 +288,7 @@ public class GamePlayService {
         if (eliminateVotes > surviveVotes) {
             // 사망 결정
             accused.setIsAlive(false);
-            playerRepository.save(accused);
+            writeBehind.savePlayers(room.getCode(), List.of(accused));
 
             finalVoteResult.put("outcome", "eliminated");
             finalVoteResult.put("message", String.format("%s님이 처형되었습니다.", accused.getNickname()));
@@ -289,7 +306,7 @@ public class GamePlayService {
             // 게임 종료 조건 확인
             if (accused.getRole() == Player.PlayerRole.LIAR) {
                 // 라이어가 처형되면 시민 승리
-                endGameWithResult(room, "CITIZENS", accused);
+                endGameWithResult(live, "CITIZENS", accused);
                 return;
             }
         } else {
@@ -302,7 +319,7 @@ public class GamePlayService {
         }
 
         // 게임 종료 여부 확인 (라운드 제한 또는 승부 결정)
-        boolean willGameEnd = checkWillGameEnd(room, accused, finalVoteResult);
+        boolean willGameEnd = checkWillGameEnd(live, accused, finalVoteResult);
         finalVoteResult.put("willGameEnd", willGameEnd);
 
         // 재투표 결과 브로드캐스트
@@ -320,15 +337,7 @@ public class GamePlayService {
 
         // 자동으로 다음 라운드 진행 (2초 지연 후)
         if (!willGameEnd) {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(2000); // 2초 지연
-                    proceedToNextRound(room);
-                } catch (InterruptedException e) {
-                    log.error("자동 라운드 진행 중 오류", e);
-                    Thread.currentThread().interrupt();
-                }
-            });
+            scheduleTransition(room.getCode(), 2000, this::proceedToNextRound);
         }
 
         // 라운드 종료 처리
@@ -336,7 +345,8 @@ public class GamePlayService {
     }
 
     // 게임 종료 여부 확인 메서드
-    private boolean checkWillGameEnd(GameRoom room, Player accused, Map<String, Object> finalVoteResult) {
+    private boolean checkWillGameEnd(LiveRoom live, Player accused, Map<String, Object> finalVoteResult) {
+        GameRoom room = live.getRoom();
         log.info("게임 종료 여부 확인: room={}, currentRound={}, roundLimit={}, accusedRole={}, outcome={}",
                 room.getCode(), room.getCurrentRound(), room.getRoundLimit(),
                 accused.getRole(), finalVoteResult.get("outcome"));
@@ -353,31 +363,23 @@ public class GamePlayService {
                     room.getCurrentRound(), room.getRoundLimit());
 
             // 라이어가 끝까지 살아남아서 승리
-            Player liar = playerRepository.findByRoomAndRole(room, Player.PlayerRole.LIAR)
+            Player liar = live.findLiar()
                     .orElse(null);
 
             log.info("라이어가 마지막 라운드까지 생존하여 승리: liar={}",
                     liar != null ? liar.getNickname() : "Unknown");
 
             // 지연된 게임 종료 처리 (다른 로직 완료 후 실행)
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(1000); // 1초 지연
-                    endGameWithResult(room, "LIAR", liar);
-                } catch (InterruptedException e) {
-                    log.error("게임 종료 지연 처리 중 오류", e);
-                    Thread.currentThread().interrupt();
-                }
-            });
+            // 실행 시점에는 LiveRoom 이 다시 적재됐을 수 있으므로 라이어는 ID 로 다시 찾는다
+            Long liarId = liar != null ? liar.getPlayerId() : null;
+            scheduleTransition(room.getCode(), 1000, delayed -> endGameWithResult(delayed, "LIAR",
+                    liarId != null ? delayed.findPlayer(liarId).orElse(null) : null));
 
             return true;
         }
 
         // 생존한 플레이어가 3명 미만인 경우 게임 종료 (라이어 포함)
-        List<Player> alivePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(room.getCode())
-                .stream()
-                .filter(Player::getIsAlive)
-                .collect(Collectors.toList());
+        List<Player> alivePlayers = live.getAlivePlayers();
 
         if (alivePlayers.size() < 3) {
             log.info("생존 플레이어 부족으로 게임 종료: alivePlayers={}", alivePlayers.size());
@@ -396,7 +398,7 @@ public class GamePlayService {
     private void markRoundAsCompleted(GameRoom room, Round currentRound) {
         currentRound.setState(Round.RoundState.END);
         currentRound.setEndedAt(LocalDateTime.now());
-        roundRepository.save(currentRound);
+        writeBehind.updateRound(room.getCode(), currentRound);
 
         log.info("라운드 완료 마킹: roomCode={}, round={}, state={}",
                 room.getCode(), currentRound.getIdx(), currentRound.getState());
@@ -411,18 +413,28 @@ public class GamePlayService {
     }
 
     public void allowMoreDescriptions(String roomCode, Long hostId) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            allowMoreDescriptions(live, hostId);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    private void allowMoreDescriptions(LiveRoom live, Long hostId) {
+        GameRoom room = live.getRoom();
+        String roomCode = room.getCode();
 
-        Player host = playerRepository.findById(hostId)
+        Player host = live.findPlayer(hostId)
                 .orElseThrow(() -> new RuntimeException("호스트를 찾을 수 없습니다"));
 
         if (!host.getIsHost()) {
             throw new RuntimeException("호스트만 추가 설명을 허용할 수 있습니다");
         }
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
         if (currentRound.getState() != Round.RoundState.DESC_COMPLETE) {
             throw new RuntimeException("모든 설명이 완료되지 않은 상태입니다");
@@ -430,7 +442,7 @@ public class GamePlayService {
 
         // 라운드 상태를 다시 설명 진행 중으로 변경
         currentRound.setState(Round.RoundState.DESC);
-        roundRepository.save(currentRound);
+        writeBehind.updateRound(roomCode, currentRound);
 
         // 라운드 상태 변경 브로드캐스트 (모든 플레이어의 입력 필드 활성화)
         broadcastRoundStateChange(roomCode, "DESC", Map.of(
@@ -442,138 +454,100 @@ public class GamePlayService {
     }
 
     public void startVoting(String roomCode) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
+
+            if (currentRound.getState() != Round.RoundState.DESC_COMPLETE) {
+                throw new RuntimeException("아직 모든 설명이 완료되지 않았습니다");
+            }
 
-        if (currentRound.getState() != Round.RoundState.DESC_COMPLETE) {
-            throw new RuntimeException("아직 모든 설명이 완료되지 않았습니다");
+            transitionToVote(roomCode, currentRound);
+            broadcastRoundStateChange(roomCode, "VOTE",
+                Map.of("message", "투표가 시작되었습니다"));
+        } finally {
+            live.unlock();
         }
-
-        transitionToVote(currentRound);
-        broadcastRoundStateChange(roomCode, "VOTE",
-            Map.of("message", "투표가 시작되었습니다"));
     }
 
-    private void checkVoteCompletion(GameRoom room, Round round, boolean isFinalVote) {
-        List<Player> alivePlayers = playerRepository.findAlivePlayersByRoomCode(room.getCode());
-        Integer voteCount = voteRepository.countVotesByRoundIdAndIsFinalVote(round.getRoundId(), isFinalVote);
+    private void checkVoteCompletion(LiveRoom live, Round round, boolean isFinalVote) {
+        VoteTally tally = live.getVoteTally(isFinalVote);
 
-        if (voteCount >= alivePlayers.size()) {
-            if (isFinalVote) {
-                processJudgment(room, round, alivePlayers);  // Pass alivePlayers to avoid redundant query
-            } else {
-                processInitialVoteResult(room, round, alivePlayers);  // Pass alivePlayers to avoid redundant query
+        if (isFinalVote) {
+            // 이 경로의 최종 투표는 생존자 전원이 투표해야 완료
+            if (tally.getTotalVotes() >= tally.getEligibleVoters() + 1
+                    && live.transitionRound(Round.RoundState.VOTE, Round.RoundState.JUDGE)) {
+                processJudgment(live, round);
             }
+        } else if (tally.isComplete() && live.transitionRound(Round.RoundState.VOTE, Round.RoundState.JUDGE)) {
+            // 투표 단계를 닫는 요청은 하나뿐이므로 결과도 한 번만 나간다
+            processInitialVoteResult(live, round);
         }
     }
 
-    private void processInitialVoteResult(GameRoom room, Round round, List<Player> alivePlayers) {
-        List<Object[]> voteCounts = voteRepository.countVotesByTargetAndRoundId(round.getRoundId(), false);
-
+    private void processInitialVoteResult(LiveRoom live, Round round) {
+        GameRoom room = live.getRoom();
+        VoteTally tally = live.getVoteTally(false);
 
         // 투표 결과를 모든 플레이어에게 표시
         Map<String, Object> voteResult = new HashMap<>();
         List<Map<String, Object>> results = new ArrayList<>();
 
-        for (Object[] voteCount : voteCounts) {
-            Long targetId = (Long) voteCount[0];
-            Long count = (Long) voteCount[1];
-            Player target = playerRepository.findById(targetId).orElse(null);
+        for (int i = 0; i < tally.getTargetCount(); i++) {
+            Long targetId = tally.targetIdAt(i);
+            Player target = live.findPlayer(targetId).orElse(null);
 
             if (target != null) {
                 Map<String, Object> result = new HashMap<>();
                 result.put("playerId", targetId);
                 result.put("playerName", target.getNickname());
-                result.put("voteCount", count.intValue());
+                result.put("voteCount", tally.countAt(i));
                 results.add(result);
             }
         }
 
         voteResult.put("results", results);
 
-        if (voteCounts.isEmpty()) {
-            voteResult.put("outcome", "no_votes");
-            voteResult.put("message", "투표가 없어 다음 라운드로 진행합니다.");
-            broadcastVoteResult(room.getCode(), voteResult);
-            proceedToNextRound(room);
-            return;
-        }
-
-        // 과반수 계산: 전체 생존 플레이어의 절반 초과
-        int totalVoters = alivePlayers.size();
-        int requiredVotes = (totalVoters / 2) + 1;
-
-        // 투표 결과를 내림차순 정렬 (최다 득표 순)
-        voteCounts.sort((a, b) -> ((Long) b[1]).compareTo((Long) a[1]));
-
-        // 과반수 득표자 확인
-        Optional<Object[]> majorityVote = voteCounts.stream()
-                .filter(vote -> ((Long) vote[1]).intValue() >= requiredVotes)
-                .findFirst();
-
-        if (majorityVote.isPresent()) {
-            Long accusedPlayerId = (Long) majorityVote.get()[0];
-            int voteCount = ((Long) majorityVote.get()[1]).intValue();
-            Player accusedPlayer = playerRepository.findById(accusedPlayerId).orElse(null);
-
-
-            voteResult.put("outcome", "accused");
-            voteResult.put("accusedId", accusedPlayerId);
-            voteResult.put("accusedName", accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown");
-            voteResult.put("message", String.format("%s님이 %d표로 지목되었습니다. 최후진술을 기다립니다.",
-                    accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown", voteCount));
-
-            round.setAccusedPlayerId(accusedPlayerId);
-            round.setState(Round.RoundState.FINAL_DEFENSE);
-            roundRepository.save(round);
-
-            logAudit(room.getRoomId(), null, "PLAYER_ACCUSED",
-                    String.format("accused: %d, votes: %d", accusedPlayerId, voteCount));
-        } else {
-            // 과반수 득표자가 없는 경우 - 최다 득표자가 있는지 확인
-            if (!voteCounts.isEmpty()) {
-                Object[] topVote = voteCounts.get(0);
-                int topVoteCount = ((Long) topVote[1]).intValue();
-
-                // 최다 득표자가 2표 이상이고, 동점자가 없는 경우
-                long topVoteCounters = voteCounts.stream()
-                        .filter(vote -> ((Long) vote[1]).intValue() == topVoteCount)
-                        .count();
-
-                if (topVoteCount >= 2 && topVoteCounters == 1) {
-                    // 과반수는 아니지만 최다 득표자를 지목 (2표 이상 + 단독)
-                    Long accusedPlayerId = (Long) topVote[0];
-                    Player accusedPlayer = playerRepository.findById(accusedPlayerId).orElse(null);
-
-
-                    voteResult.put("outcome", "accused");
-                    voteResult.put("accusedId", accusedPlayerId);
-                    voteResult.put("accusedName", accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown");
-                    voteResult.put("message", String.format("%s님이 %d표로 지목되었습니다. 최후진술을 기다립니다.",
-                            accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown", topVoteCount));
-
-                    round.setAccusedPlayerId(accusedPlayerId);
-                    round.setState(Round.RoundState.FINAL_DEFENSE);
-                    roundRepository.save(round);
-
-                    logAudit(room.getRoomId(), null, "PLAYER_ACCUSED",
-                            String.format("accused: %d, votes: %d (plurality)", accusedPlayerId, topVoteCount));
+        // 과반수: 전체 생존 플레이어의 절반 초과, 아니면 2표 이상 단독 최다 득표자 지목
+        VoteTally.Outcome outcome = tally.outcome();
+        switch (outcome) {
+            case NO_VOTES -> {
+                voteResult.put("outcome", "no_votes");
+                voteResult.put("message", "투표가 없어 다음 라운드로 진행합니다.");
+                broadcastVoteResult(room.getCode(), voteResult);
+                proceedToNextRound(live);
+                return;
+            }
+            case MAJORITY, PLURALITY -> {
+                Long accusedPlayerId = tally.getLeaderId();
+                int voteCount = tally.getTopCount();
+                Player accusedPlayer = live.findPlayer(accusedPlayerId).orElse(null);
+
+                voteResult.put("outcome", "accused");
+                voteResult.put("accusedId", accusedPlayerId);
+                voteResult.put("accusedName", accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown");
+                voteResult.put("message", String.format("%s님이 %d표로 지목되었습니다. 최후진술을 기다립니다.",
+                        accusedPlayer != null ? accusedPlayer.getNickname() : "Unknown", voteCount));
+
+                round.setAccusedPlayerId(accusedPlayerId);
+                round.setState(Round.RoundState.FINAL_DEFENSE);
+                writeBehind.updateRound(room.getCode(), round);
+
+                logAudit(room.getRoomId(), null, "PLAYER_ACCUSED",
+                        String.format(outcome == VoteTally.Outcome.MAJORITY
+                                ? "accused: %d, votes: %d" : "accused: %d, votes: %d (plurality)",
+                                accusedPlayerId, voteCount));
+            }
+            default -> {
+                voteResult.put("outcome", "no_majority");
+                if (outcome == VoteTally.Outcome.TIE) {
+                    voteResult.put("message", "동점으로 인해 지목된 플레이어가 없습니다. 다음 라운드로 진행합니다.");
                 } else {
-                    voteResult.put("outcome", "no_majority");
-                    if (topVoteCounters > 1) {
-                        voteResult.put("message", "동점으로 인해 지목된 플레이어가 없습니다. 다음 라운드로 진행합니다.");
-                    } else {
-                        voteResult.put("message", "과반수 득표자가 없어 다음 라운드로 진행합니다.");
-                    }
-                    proceedToNextRound(room);
+                    voteResult.put("message", "과반수 득표자가 없어 다음 라운드로 진행합니다.");
                 }
-            } else {
-                voteResult.put("outcome", "no_majority");
-                voteResult.put("message", "투표 결과가 없어 다음 라운드로 진행합니다.");
-                proceedToNextRound(room);
+                proceedToNextRound(live);
             }
         }
 
@@ -586,27 +560,19 @@ public class GamePlayService {
         broadcastVoteResult(room.getCode(), voteResult);
     }
 
-    private void processJudgment(GameRoom room, Round round, List<Player> alivePlayers) {
-        Player accused = playerRepository.findById(round.getAccusedPlayerId())
+    private void processJudgment(LiveRoom live, Round round) {
+        GameRoom room = live.getRoom();
+        Player accused = live.findPlayer(round.getAccusedPlayerId())
                 .orElseThrow(() -> new RuntimeException("지목된 플레이어를 찾을 수 없습니다"));
 
         // 생존/사망 투표 결과 집계 (decision 필드 기반)
-        List<Vote> finalVotes = voteRepository.findByRoundAndIsFinalVote(round, true);
-
-        int eliminateVotes = 0;
-        int surviveVotes = 0;
+        VoteTally tally = live.getVoteTally(true);
+        int eliminateVotes = tally.getEliminateVotes();
+        int surviveVotes = tally.getSurviveVotes();
 
         Map<String, Object> finalVoteResult = new HashMap<>();
         List<Map<String, Object>> results = new ArrayList<>();
 
-        for (Vote vote : finalVotes) {
-            if ("ELIMINATE".equals(vote.getDecision())) {
-                eliminateVotes++;
-            } else if ("SURVIVE".equals(vote.getDecision())) {
-                surviveVotes++;
-            }
-        }
-
         // 투표 결과 정보 구성
         Map<String, Object> eliminateResult = new HashMap<>();
         eliminateResult.put("decision", "ELIMINATE");
@@ -626,22 +592,21 @@ public class GamePlayService {
             "role", accused.getRole().name()
         ));
 
-        if (finalVotes.isEmpty()) {
+        if (tally.getTotalVotes() == 0) {
             finalVoteResult.put("outcome", "survived");
             finalVoteResult.put("message", accused.getNickname() + "님이 생존했습니다. (투표 없음)");
             broadcastVoteResult(room.getCode(), finalVoteResult);
-            proceedToNextRound(room);
+            proceedToNextRound(live);
             return;
         }
 
-        // 투표할 수 있는 플레이어 수 (생존자 - 지목당한 플레이어) - Use passed parameter instead of querying again
-        int eligibleVoters = alivePlayers.size() - 1; // 지목당한 플레이어 제외
-        int requiredEliminateVotes = (eligibleVoters / 2) + 1; // 과반수
+        // 투표할 수 있는 플레이어 수 (생존자 - 지목당한 플레이어) 기준 과반수
+        int requiredEliminateVotes = tally.requiredMajority();
 
         if (eliminateVotes >= requiredEliminateVotes) {
             // 과반수가 사망에 투표 -> 처형
             accused.setIsAlive(false);
-            playerRepository.save(accused);
+            writeBehind.savePlayers(room.getCode(), List.of(accused));
 
             finalVoteResult.put("outcome", "eliminated");
             finalVoteResult.put("eliminatedId", accused.getPlayerId());
@@ -665,11 +630,11 @@ public class GamePlayService {
             // 게임 종료 조건 확인
             if (accused.getRole() == Player.PlayerRole.LIAR) {
                 // 라이어가 처형되면 시민 승리
-                endGameWithResult(room, "CITIZENS", accused);
+                endGameWithResult(live, "CITIZENS", accused);
                 return;
             } else {
                 // 시민이 처형된 경우 게임 계속
-                checkRemainingPlayersAndProceed(room, alivePlayers);
+                checkRemainingPlayersAndProceed(live);
                 return;
             }
         } else {
@@ -685,61 +650,84 @@ public class GamePlayService {
             broadcastChatMessage(room.getCode(), "시스템", chatMessage);
 
             // 자동으로 다음 라운드 진행 (2초 지연 후)
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(2000); // 2초 지연
-                    proceedToNextRound(room);
-                } catch (InterruptedException e) {
-                    log.error("자동 라운드 진행 중 오류", e);
-                    Thread.currentThread().interrupt();
-                }
-            });
+            scheduleTransition(room.getCode(), 2000, this::proceedToNextRound);
         }
 
         round.setState(Round.RoundState.END);
         round.setEndedAt(LocalDateTime.now());
-        roundRepository.save(round);
+        writeBehind.updateRound(room.getCode(), round);
     }
 
-    private void checkRemainingPlayersAndProceed(GameRoom room, List<Player> alivePlayers) {
+    private void checkRemainingPlayersAndProceed(LiveRoom live) {
         // Remove one dead player from the alive count since accused was just eliminated
-        List<Player> currentAlivePlayers = playerRepository.findAlivePlayersByRoomCode(room.getCode());
+        List<Player> currentAlivePlayers = live.getAlivePlayers();
         if (currentAlivePlayers.size() < 3) {
             // 생존 플레이어가 3명 미만이면 라이어 승리
             Player liar = currentAlivePlayers.stream()
                     .filter(p -> p.getRole() == Player.PlayerRole.LIAR)
                     .findFirst()
                     .orElse(null);
-            endGameWithResult(room, "LIAR", liar);
+            endGameWithResult(live, "LIAR", liar);
         } else {
-            proceedToNextRound(room);
+            proceedToNextRound(live);
         }
     }
 
-    private void proceedToNextRound(GameRoom room) {
+    // 지연 전환은 방 스케줄러의 트랜잭션 안에서 방 명령 잠금을 커밋(과 이벤트 발행)까지 잡고 실행 -
+    // 그 사이 방 임대를 잃었거나, 게임이 끝났거나, 호스트가 먼저 다음 라운드로 넘겨 예약 당시의 라운드가 아니면 건너뛴다
+    private void scheduleTransition(String roomCode, long delayMs, Consumer<LiveRoom> transition) {
+        LiveRoom scheduledFrom = liveRoomStore.get(roomCode);
+        Integer roundIdx = scheduledFrom.getCurrentRound() != null ? scheduledFrom.getCurrentRound().getIdx() : null;
+
+        roomScheduler.schedule(roomCode, delayMs, () -> {
+            if (!roomOwnership.canRun(roomCode)) {
+                log.info("예약된 전환 건너뜀: 방 {} 임대 없음", roomCode);
+                return;
+            }
+            roomCommandLocks.lockUntilCompletion(roomCode);
+            LiveRoom live = liveRoomStore.get(roomCode);
+            live.lock();
+            try {
+                if (live.getRoom().getState() != GameRoom.RoomState.ROUND) {
+                    log.debug("예약된 전환 건너뜀: 방 {} 상태 {}", roomCode, live.getRoom().getState());
+                    return;
+                }
+                Round current = live.getCurrentRound();
+                if (current == null || !Objects.equals(current.getIdx(), roundIdx)) {
+                    log.debug("예약된 전환 건너뜀: 방 {} 라운드 {} -> {}", roomCode, roundIdx,
+                            current != null ? current.getIdx() : null);
+                    return;
+                }
+                transition.accept(live);
+            } finally {
+                live.unlock();
+            }
+        });
+    }
+
+    private void proceedToNextRound(LiveRoom live) {
+        GameRoom room = live.getRoom();
         if (room.getCurrentRound() >= room.getRoundLimit()) {
             // 모든 라운드 완료 - 라이어 승리
-            List<Player> allPlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(room.getCode());
-            Player liar = allPlayers.stream()
-                    .filter(p -> p.getRole() == Player.PlayerRole.LIAR)
-                    .findFirst()
+            Player liar = live.findLiar()
                     .orElse(null);
-            endGameWithResult(room, "LIAR", liar);
+            endGameWithResult(live, "LIAR", liar);
         } else {
             // 다음 라운드 시작
             room.setCurrentRound(room.getCurrentRound() + 1);
-            gameRoomRepository.save(room);
+            writeBehind.saveRoom(room);
 
             // 다음 라운드 시작 알림
             broadcastRoundTransition(room.getCode(), room.getCurrentRound());
-            startNewRound(room, room.getCurrentRound());
+            startNewRound(live, room.getCurrentRound());
         }
     }
 
-    private void startNewRound(GameRoom room, Integer roundIdx) {
+    private void startNewRound(LiveRoom live, Integer roundIdx) {
+        GameRoom room = live.getRoom();
         // 라운드 중복 생성 방지 - 이미 해당 라운드가 존재하는지 확인
-        Optional<Round> existingRound = roundRepository.findByRoomAndIdx(room, roundIdx);
-        if (existingRound.isPresent()) {
+        Round existingRound = live.getCurrentRound();
+        if (existingRound != null && roundIdx.equals(existingRound.getIdx())) {
             // 이미 해당 라운드가 존재하면 생성하지 않고 기존 라운드 사용
             logAudit(room.getRoomId(), null, "ROUND_ALREADY_EXISTS",
                     String.format("round: %d already exists, skipping creation", roundIdx));
@@ -747,17 +735,17 @@ public class GamePlayService {
         }
 
         // 새 라운드를 위해 역할과 단어 재배정
-        List<Player> alivePlayers = playerRepository.findAlivePlayersByRoomCode(room.getCode());
-        reassignRolesAndWords(alivePlayers, room.getTheme());
+        List<Player> alivePlayers = live.getAlivePlayers();
+        reassignRolesAndWords(room.getCode(), alivePlayers, room.getTheme());
 
         Round round = Round.builder()
-                .room(room)
                 .idx(roundIdx)
                 .state(Round.RoundState.READY)
                 .startedAt(LocalDateTime.now())
                 .build();
 
-        roundRepository.save(round);
+        live.startRound(round);
+        writeBehind.insertRound(room.getCode(), room.getRoomId(), round);
 
         logAudit(room.getRoomId(), null, "ROUND_STARTED",
                 String.format("round: %d", roundIdx));
@@ -765,7 +753,7 @@ public class GamePlayService {
         // 다음 라운드 시작 메시지 브로드캐스트 (finalDefenseCompleted 플래그 초기화용)
         GameMessage nextRoundMessage = GameMessage.of("NEXT_ROUND_START", room.getCode(),
                 Map.of("currentRound", roundIdx, "message", String.format("%d라운드가 시작되었습니다!", roundIdx)));
-        messagingTemplate.convertAndSend("/topic/rooms/" + room.getCode(), nextRoundMessage);
+        roomEventDispatcher.send(room.getCode(), nextRoundMessage);
 
         // 새 라운드 시작 알림
         broadcastRoundStateChange(room.getCode(), "READY",
@@ -775,7 +763,7 @@ public class GamePlayService {
                 ));
     }
 
-    private void reassignRolesAndWords(List<Player> players, Theme theme) {
+    private void reassignRolesAndWords(String roomCode, List<Player> players, Theme theme) {
         // 역할 재배정
         Collections.shuffle(players);
 
@@ -802,21 +790,26 @@ public class GamePlayService {
             players.get(i).setOrderNo(i + 1);
         }
 
-        playerRepository.saveAll(players);
+        writeBehind.savePlayers(roomCode, players);
     }
 
-    private void transitionToVote(Round round) {
+    private void transitionToVote(String roomCode, Round round) {
         round.setState(Round.RoundState.VOTE);
-        roundRepository.save(round);
+        writeBehind.updateRound(roomCode, round);
     }
 
-    private void endGameWithResult(GameRoom room, String winnerType, Player keyPlayer) {
+    private void endGameWithResult(LiveRoom live, String winnerType, Player keyPlayer) {
+        GameRoom room = live.getRoom();
+        if (room.getState() == GameRoom.RoomState.END) {
+            log.debug("이미 종료된 게임: 방 {}", room.getCode());
+            return;
+        }
         room.setState(GameRoom.RoomState.END);
         room.setEndedAt(LocalDateTime.now());
-        gameRoomRepository.save(room);
+        writeBehind.saveRoom(room);
 
         // 모든 플레이어 정보 수집
-        List<Player> allPlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(room.getCode());
+        List<Player> allPlayers = live.getActivePlayers();
         Player liar = allPlayers.stream()
                 .filter(p -> p.getRole() == Player.PlayerRole.LIAR)
                 .findFirst()
@@ -850,12 +843,21 @@ public class GamePlayService {
 
         // 모든 플레이어에게 브로드캐스트
         GameMessage broadcastMessage = GameMessage.of("GAME_END", room.getCode(), gameEndData);
-        messagingTemplate.convertAndSend("/topic/rooms/" + room.getCode(), broadcastMessage);
+        roomEventDispatcher.send(room.getCode(), broadcastMessage);
 
         logAudit(room.getRoomId(), null, "GAME_ENDED",
                 String.format("winner: %s, liar: %s", winnerType, liar != null ? liar.getNickname() : "Unknown"));
     }
 
+    // 메모리에 적재된 현재 라운드 (방의 currentRound 와 일치해야 함)
+    private Round requireCurrentRound(LiveRoom live, String errorMessage) {
+        Round round = live.getCurrentRound();
+        if (round == null || !round.getIdx().equals(live.getRoom().getCurrentRound())) {
+            throw new RuntimeException(errorMessage);
+        }
+        return round;
+    }
+
     private String generateSummary(String text) {
         if (text.length() <= 50) {
             return text;
@@ -864,35 +866,29 @@ public class GamePlayService {
     }
 
     private void logAudit(Long roomId, Long playerId, String action, String payload) {
-        AuditLog auditLog = AuditLog.builder()
-                .roomId(roomId)
-                .playerId(playerId)
-                .action(action)
-                .payload(payload)
-                .build();
-        auditLogRepository.save(auditLog);
+        auditLogSink.record(roomId, playerId, action, payload);
     }
 
     private void broadcastRoundStateChange(String roomCode, String state, Object data) {
         GameMessage message = GameMessage.of("ROUND_STATE", roomCode,
                 Map.of("state", state, "data", data));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
 
     private void broadcastVoteResult(String roomCode, Map<String, Object> voteResult) {
         GameMessage message = GameMessage.of("VOTE_RESULT", roomCode, voteResult);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
 
     private void broadcastFinalVoteResult(String roomCode, Map<String, Object> voteResult) {
       GameMessage message = GameMessage.of("FINAL_VOTE_RESULT", roomCode, voteResult);
-      messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+      roomEventDispatcher.send(roomCode, message);
     }
 
     private void broadcastRoundTransition(String roomCode, int nextRound) {
         GameMessage message = GameMessage.of("ROUND_TRANSITION", roomCode,
                 Map.of("nextRound", nextRound, "message", String.format("잠시 후 %d라운드가 시작됩니다...", nextRound)));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
 
     /**
@@ -905,24 +901,33 @@ public class GamePlayService {
         );
 
         GameMessage chatMessage = GameMessage.of("DESC_UPDATE", roomCode, null, nickname, data);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, chatMessage);
+        roomEventDispatcher.send(roomCode, chatMessage);
 
         log.info("채팅 시스템 메시지 브로드캐스트: roomCode={}, message={}", roomCode, message);
     }
 
     public void proceedNextRound(String roomCode, Long hostId) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        LiveRoom live = liveRoomStore.get(roomCode);
+        live.lock();
+        try {
+            proceedNextRound(live, hostId);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    private void proceedNextRound(LiveRoom live, Long hostId) {
+        GameRoom room = live.getRoom();
 
-        Player host = playerRepository.findById(hostId)
+        Player host = live.findPlayer(hostId)
                 .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
 
         if (!host.getIsHost()) {
             throw new RuntimeException("호스트만 다음 라운드를 진행할 수 있습니다");
         }
 
-        Round currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound())
-                .orElseThrow(() -> new RuntimeException("현재 라운드를 찾을 수 없습니다"));
+        Round currentRound = requireCurrentRound(live, "현재 라운드를 찾을 수 없습니다");
 
         if (currentRound.getState() != Round.RoundState.END) {
             throw new RuntimeException("라운드가 완료되지 않았습니다");
@@ -930,12 +935,12 @@ public class GamePlayService {
 
         // 다음 라운드 시작 또는 게임 종료 처리
         if (room.getCurrentRound() < room.getRoundLimit()) {
-            proceedToNextRound(room);
+            proceedToNextRound(live);
         } else {
             // 모든 라운드 완료 - 라이어가 끝까지 생존하여 승리
-            Player liar = playerRepository.findByRoomAndRole(room, Player.PlayerRole.LIAR)
+            Player liar = live.findLiar()
                     .orElse(null);
-            endGameWithResult(room, "LIAR", liar);
+            endGameWithResult(live, "LIAR", liar);
         }
 
         logAudit(room.getRoomId(), hostId, "PROCEED_NEXT_ROUND", "Host proceeded to next round");
@@ -954,7 +959,7 @@ public class GamePlayService {
         GameMessage message = GameMessage.of("DESC_UPDATE", roomCode, player.getPlayerId(), player.getNickname(), data);
         
         // 방의 모든 플레이어에게 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
         
         log.info("DESC_UPDATE 메시지 전송: roomCode={}, player={}, description={}", 
                 roomCode, player.getNickname(), description);
@@ -963,32 +968,30 @@ public class GamePlayService {
     /**
      * 모든 플레이어가 설명을 완료했는지 확인하고, 완료되었을 때 호스트에게 옵션 제공
      */
-    private void checkAllDescriptionsComplete(GameRoom room, Round round) {
+    private void checkAllDescriptionsComplete(LiveRoom live, Round round) {
+        GameRoom room = live.getRoom();
         // 생존한 플레이어 수 확인
-        List<Player> alivePlayers = playerRepository.findAlivePlayersByRoomCode(room.getCode());
+        List<Player> alivePlayers = live.getAlivePlayers();
         
         // 현재 라운드에서 설명을 제출한 플레이어 수 확인
-        long descriptionsCount = messageLogRepository.findByRoomIdAndRoundAndType(room.getRoomId(), round, MessageLog.MessageType.DESC)
-            .stream()
-            .map(MessageLog::getPlayer)
-            .distinct()
-            .count();
+        long descriptionsCount = live.countDistinctSpeakers(MessageLog.MessageType.DESC);
 
       log.info("설명 완료 확인: 생존자 {}명, 설명 제출 {}개", alivePlayers.size(), descriptionsCount);
         
-        // 모든 생존 플레이어가 설명을 제출했는지 확인
-        if (descriptionsCount >= alivePlayers.size()) {
+        // 모든 생존 플레이어가 설명을 제출했는지 확인 - 설명 단계에서 한 번만 완료로 넘긴다
+        // (새 라운드는 READY 로 시작해 첫 설명부터 받고, 추가 설명 허용 후에는 DESC 상태다)
+        if (descriptionsCount >= alivePlayers.size()
+                && (live.transitionRound(Round.RoundState.READY, Round.RoundState.DESC_COMPLETE)
+                    || live.transitionRound(Round.RoundState.DESC, Round.RoundState.DESC_COMPLETE))) {
             log.info("모든 설명 완료 - 호스트에게 옵션 제공");
             
-            // 라운드 상태를 설명 완료로 변경
-            round.setState(Round.RoundState.DESC_COMPLETE);
-            roundRepository.save(round);
+            writeBehind.updateRound(room.getCode(), round);
             
             // 모든 플레이어에게 설명 완료 알림
             GameMessage allCompleteMessage = GameMessage.of("ALL_DESCRIPTIONS_COMPLETE", room.getCode(), Map.of(
                 "message", "모든 플레이어의 설명이 완료되었습니다"
             ));
-            messagingTemplate.convertAndSend("/topic/rooms/" + room.getCode(), allCompleteMessage);
+            roomEventDispatcher.send(room.getCode(), allCompleteMessage);
             
             logAudit(room.getRoomId(), null, "ALL_DESCRIPTIONS_COMPLETE", 
                     String.format("총 %d개 설명 완료", descriptionsCount));
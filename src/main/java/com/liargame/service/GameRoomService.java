@@ -5,8 +5,8 @@ import com.liargame.domain.entity.*;
 import com.liargame.domain.repository.*;
 import com.liargame.config.WebSocketConfig;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import com.liargame.websocket.GameMessage;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,39 +21,44 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "liargame.service", histogram = true)
 public class GameRoomService {
     
     private final GameRoomRepository gameRoomRepository;
     private final PlayerRepository playerRepository;
     private final ThemeRepository themeRepository;
     private final RoundRepository roundRepository;
-    private final VoteRepository voteRepository;
-    private final MessageLogRepository messageLogRepository;
-    private final AuditLogRepository auditLogRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final AuditLogSink auditLogSink;
+    private final RoomStateBroadcaster roomStateBroadcaster;
+    private final RoomScheduler roomScheduler;
+    private final ThemeCatalog themeCatalog;
+    private final RoomStateReader roomStateReader;
+    private final RoomTeardown roomTeardown;
+    private final RoomCodeAllocator roomCodeAllocator;
+    private final GameMetrics gameMetrics;
+    private final RoomEventDispatcher roomEventDispatcher;
+    private final LiveRoomStore liveRoomStore;
+    private final LiveRoomWriteBehind writeBehind;
+    private final RoomCommandLocks roomCommandLocks;
 
     @Autowired
     private WebSocketConfig webSocketConfig;
 
     public String createRoom(RoomCreateRequest request) {
-        String roomCode = generateRoomCode();
+        String roomCode = roomCodeAllocator.allocate();
         
-        Theme theme = null;
-        if (request.getThemeGroup() != null) {
-            theme = themeRepository.findRandomActiveThemeByGroup(request.getThemeGroup())
-                    .orElse(null);
-        }
-        if (theme == null) {
-            theme = themeRepository.findRandomActiveTheme()
-                    .orElseThrow(() -> new RuntimeException("사용 가능한 테마가 없습니다"));
-        }
+        // 요청 조건에 맞는 테마가 없으면 전체 활성 테마에서 선택
+        Theme theme = themeCatalog.pickRandom(request.getThemeGroup(), request.getLocale(),
+                        request.getAgeGroup(), request.getDifficulty())
+                .or(themeCatalog::pickRandom)
+                .orElseThrow(() -> new RuntimeException("사용 가능한 테마가 없습니다"));
         
         GameRoom room = GameRoom.builder()
                 .code(roomCode)
                 .maxPlayers(request.getMaxPlayers())
                 .roundLimit(request.getRoundLimit())
                 .state(GameRoom.RoomState.LOBBY)
-                .theme(theme)
+                .theme(themeRepository.getReferenceById(theme.getThemeId()))
                 .build();
         
         gameRoomRepository.save(room);
@@ -65,8 +70,12 @@ public class GameRoomService {
         return roomCode;
     }
     
+    @DetachesLiveRoom
     public Player joinRoom(String roomCode, JoinRoomRequest request) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        liveRoomStore.detach(roomCode);
+
+        GameRoom room = gameRoomRepository.findForCommandByCode(roomCode)
                 .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
         
         log.info("Room {} join attempt: room state = {}", roomCode, room.getState());
@@ -76,7 +85,7 @@ public class GameRoomService {
             throw new RuntimeException("게임이 이미 시작되었습니다");
         }
         
-        List<Player> activePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(roomCode);
+        List<Player> activePlayers = playerRepository.findActiveByRoomId(room.getRoomId());
         log.info("Room {} join attempt: active players = {}, max players = {}", 
                 roomCode, activePlayers.size(), room.getMaxPlayers());
         
@@ -86,7 +95,7 @@ public class GameRoomService {
             throw new RuntimeException("방이 가득 찼습니다");
         }
         
-        if (playerRepository.existsByRoomCodeAndNicknameAndLeftAtIsNull(roomCode, request.getNickname())) {
+        if (playerRepository.existsActiveByRoomIdAndNickname(room.getRoomId(), request.getNickname())) {
             throw new RuntimeException("이미 사용 중인 닉네임입니다");
         }
         
@@ -113,8 +122,12 @@ public class GameRoomService {
         return player;
     }
     
+    @DetachesLiveRoom
     public void startGame(String roomCode, Long hostPlayerId) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        liveRoomStore.detach(roomCode);
+
+        GameRoom room = gameRoomRepository.findForCommandByCode(roomCode)
                 .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
 
         Player host = playerRepository.findById(hostPlayerId)
@@ -124,7 +137,7 @@ public class GameRoomService {
             throw new RuntimeException("호스트만 게임을 시작할 수 있습니다");
         }
 
-        List<Player> activePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(roomCode);
+        List<Player> activePlayers = playerRepository.findActiveByRoomId(room.getRoomId());
         if (activePlayers.size() < 3) {
             throw new RuntimeException("최소 3명 이상의 플레이어가 필요합니다");
         }
@@ -152,7 +165,7 @@ public class GameRoomService {
             return;
         }
         
-        List<Player> activePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(room.getCode());
+        List<Player> activePlayers = playerRepository.findActiveByRoomId(room.getRoomId());
         List<Player> alivePlayers = activePlayers.stream()
                 .filter(Player::getIsAlive)
                 .collect(Collectors.toList());
@@ -173,6 +186,7 @@ public class GameRoomService {
                 .build();
         
         roundRepository.save(round);
+        gameMetrics.roundStarted(room.getCode(), round.getState());
         
         // 게임 시작 시에는 설명 단계 시작 알림을 보내지 않음
         // 호스트가 명시적으로 설명 단계를 시작했을 때만 알림 전송
@@ -209,84 +223,75 @@ public class GameRoomService {
         playerRepository.saveAll(players);
     }
     
+    // REST 응답용 - 상태와 순번을 방 전송 잠금 아래에서 함께 읽는다
     public GameStateResponse getRoomState(String roomCode) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-        
-        List<Player> players = playerRepository.findByRoomCodeAndLeftAtIsNull(roomCode);
-        
+        return roomStateBroadcaster.snapshot(roomCode, () -> readRoomState(roomCode));
+    }
+
+    private GameStateResponse readRoomState(String roomCode) {
+        // 진행 중인 방은 메모리 상태에서 바로 구성 (DB 에는 아직 반영되지 않은 변경이 있을 수 있음)
+        LiveRoom live = liveRoomStore.getIfPresent(roomCode);
+        if (live != null) {
+            live.lock();
+            try {
+                return buildRoomState(live);
+            } finally {
+                live.unlock();
+            }
+        }
+
+        // 메모리에 없는 방은 고정된 적은 수의 조회로 구성
+        return roomStateReader.read(roomCode);
+    }
+
+    private GameStateResponse buildRoomState(LiveRoom live) {
+        GameRoom room = live.getRoom();
+
         GameStateResponse.GameStateResponseBuilder builder = GameStateResponse.builder()
-                .roomCode(roomCode)
+                .roomCode(room.getCode())
                 .roomState(room.getState())
                 .maxPlayers(room.getMaxPlayers())
                 .roundLimit(room.getRoundLimit())
                 .currentRound(room.getCurrentRound())
                 .themeGroup(room.getTheme() != null ? room.getTheme().getThemeGroup() : null)
                 .createdAt(room.getCreatedAt())
-                .players(players.stream().map(this::mapToPlayerInfo).collect(Collectors.toList()));
-        
-        if (room.getState() == GameRoom.RoomState.ROUND) {
-            Optional<Round> currentRound = roundRepository.findByRoomCodeAndIdx(roomCode, room.getCurrentRound());
-            if (currentRound.isPresent()) {
-                Round round = currentRound.get();
-                builder.roundState(round.getState())
-                        .roundStartedAt(round.getStartedAt())
-                        .accusedPlayerId(round.getAccusedPlayerId());
-                
-                List<Vote> votes = voteRepository.findByRoundRoundIdAndIsFinalVote(
-                        round.getRoundId(), round.getState() == Round.RoundState.FINAL_DEFENSE);
-                builder.votes(mapToVoteInfos(votes));
-                
-                List<MessageLog> messages = messageLogRepository.findByRoundRoundIdOrderByCreatedAtAsc(round.getRoundId());
-                builder.messages(messages.stream().map(this::mapToMessageInfo).collect(Collectors.toList()));
+                .players(live.getActivePlayers().stream().map(RoomStateReader::toPlayerInfo).collect(Collectors.toList()));
+
+        Round round = live.getCurrentRound();
+        if (room.getState() == GameRoom.RoomState.ROUND && round != null) {
+            builder.roundState(round.getState())
+                    .roundStartedAt(round.getStartedAt())
+                    .accusedPlayerId(round.getAccusedPlayerId());
+
+            boolean isFinalVote = round.getState() == Round.RoundState.FINAL_DEFENSE;
+            VoteTally tally = live.getVoteTally(isFinalVote);
+            List<GameStateResponse.VoteInfo> votes = new ArrayList<>(tally.getTargetCount());
+            for (int i = 0; i < tally.getTargetCount(); i++) {
+                Long targetId = tally.targetIdAt(i);
+                votes.add(GameStateResponse.VoteInfo.builder()
+                        .targetPlayerId(targetId)
+                        .targetNickname(live.findPlayer(targetId).map(Player::getNickname).orElse("Unknown"))
+                        .voteCount(tally.countAt(i))
+                        .isFinalVote(isFinalVote)
+                        .build());
             }
+            builder.votes(votes);
+
+            builder.messages(live.getMessages().stream()
+                    .map(m -> GameStateResponse.MessageInfo.builder()
+                            .playerId(m.playerId())
+                            .nickname(m.nickname())
+                            .text(m.text())
+                            .summary(m.summary())
+                            .type(m.type() != null ? m.type().name() : null)
+                            .createdAt(m.createdAt())
+                            .build())
+                    .collect(Collectors.toList()));
         }
-        
+
         return builder.build();
     }
     
-    private GameStateResponse.PlayerInfo mapToPlayerInfo(Player player) {
-        return GameStateResponse.PlayerInfo.builder()
-                .playerId(player.getPlayerId())
-                .nickname(player.getNickname())
-                .isHost(player.getIsHost())
-                .isAlive(player.getIsAlive())
-                .orderNo(player.getOrderNo())
-                .role(player.getRole() != null ? player.getRole().name() : null)
-                .cardWord(player.getCardWord())
-                .isCurrentTurn(false)
-                .build();
-    }
-    
-    private List<GameStateResponse.VoteInfo> mapToVoteInfos(List<Vote> votes) {
-        Map<Long, Long> voteCounts = votes.stream()
-                .collect(Collectors.groupingBy(vote -> vote.getTarget().getPlayerId(), 
-                        Collectors.counting()));
-        
-        return voteCounts.entrySet().stream()
-                .map(entry -> {
-                    Player target = playerRepository.findById(entry.getKey()).orElse(null);
-                    return GameStateResponse.VoteInfo.builder()
-                            .targetPlayerId(entry.getKey())
-                            .targetNickname(target != null ? target.getNickname() : "Unknown")
-                            .voteCount(entry.getValue().intValue())
-                            .isFinalVote(!votes.isEmpty() && votes.get(0).getIsFinalVote())
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-    
-    private GameStateResponse.MessageInfo mapToMessageInfo(MessageLog message) {
-        return GameStateResponse.MessageInfo.builder()
-                .playerId(message.getPlayer() != null ? message.getPlayer().getPlayerId() : null)
-                .nickname(message.getPlayer() != null ? message.getPlayer().getNickname() : null)
-                .text(message.getText())
-                .summary(message.getSummary())
-                .type(message.getType() != null ? message.getType().name() : null)
-                .createdAt(message.getCreatedAt())
-                .build();
-    }
-    
     private void endGame(GameRoom room, String reason) {
         room.setState(GameRoom.RoomState.END);
         room.setEndedAt(LocalDateTime.now());
@@ -297,12 +302,16 @@ public class GameRoomService {
     }
 
     // 게임 종료 후 새로운 방 생성 및 플레이어 이동
+    @DetachesLiveRoom
     public Map<String, Object> createNewRoomAfterGame(String oldRoomCode) {
-        GameRoom oldRoom = gameRoomRepository.findByCode(oldRoomCode)
+        roomCommandLocks.lockUntilCompletion(oldRoomCode);
+        liveRoomStore.detach(oldRoomCode);
+
+        GameRoom oldRoom = gameRoomRepository.findForCommandByCode(oldRoomCode)
                 .orElseThrow(() -> new RuntimeException("기존 방을 찾을 수 없습니다"));
 
         // 기존 방의 살아있는 플레이어들 조회
-        List<Player> activePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(oldRoomCode);
+        List<Player> activePlayers = playerRepository.findActiveByRoomId(oldRoom.getRoomId());
         if (activePlayers.isEmpty()) {
             log.warn("새 방 생성 시 활성 플레이어가 없습니다: {}", oldRoomCode);
             return null;
@@ -315,7 +324,7 @@ public class GameRoomService {
                 .orElse(activePlayers.get(0)); // 호스트가 없으면 첫 번째 플레이어를 호스트로
 
         // 새로운 방 생성
-        String newRoomCode = generateRoomCode();
+        String newRoomCode = roomCodeAllocator.allocate();
         GameRoom newRoom = GameRoom.builder()
                 .code(newRoomCode)
                 .maxPlayers(oldRoom.getMaxPlayers())
@@ -389,49 +398,22 @@ public class GameRoomService {
         log.info("기존 방 {} 정리 시작", oldRoomCode);
 
         try {
-            // 기존 방의 모든 관련 데이터 삭제
-            List<Round> rounds = roundRepository.findByRoomCodeOrderByIdxAsc(oldRoomCode);
-            for (Round round : rounds) {
-                voteRepository.deleteByRoundRoundId(round.getRoundId());
-                messageLogRepository.deleteByRoundRoundId(round.getRoundId());
-            }
-
-            roundRepository.deleteByRoomRoomId(oldRoomId);
-            messageLogRepository.deleteByRoomId(oldRoomId);
-            auditLogRepository.deleteByRoomId(oldRoomId);
-            playerRepository.deleteByRoomRoomId(oldRoomId);
-            gameRoomRepository.delete(oldRoom);
+            // 기존 방의 모든 관련 데이터는 커밋 후 백그라운드에서 벌크 삭제
+            roomScheduler.cancel(oldRoomCode);
+            roomTeardown.deleteRoomAsync(oldRoomCode, oldRoomId);
+            roomEventDispatcher.cancelState(oldRoomCode);
+            roomStateBroadcaster.forget(oldRoomCode);
+            gameMetrics.forgetRoom(oldRoomCode);
 
-            log.info("기존 방 {} 정리 완료", oldRoomCode);
+            log.info("기존 방 {} 정리 예약", oldRoomCode);
 
         } catch (Exception e) {
             log.error("기존 방 {} 정리 중 오류 발생: {}", oldRoomCode, e.getMessage(), e);
         }
     }
     
-    private String generateRoomCode() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder code = new StringBuilder();
-        Random random = new Random();
-        
-        do {
-            code.setLength(0);
-            for (int i = 0; i < 8; i++) {
-                code.append(chars.charAt(random.nextInt(chars.length())));
-            }
-        } while (gameRoomRepository.existsByCode(code.toString()));
-        
-        return code.toString();
-    }
-    
     private void logAudit(Long roomId, Long playerId, String action, String payload) {
-        AuditLog auditLog = AuditLog.builder()
-                .roomId(roomId)
-                .playerId(playerId)
-                .action(action)
-                .payload(payload)
-                .build();
-        auditLogRepository.save(auditLog);
+        auditLogSink.record(roomId, playerId, action, payload);
     }
     
     // WebSocket 브로드캐스트 메소드들
@@ -444,12 +426,12 @@ public class GameRoomService {
                 "orderNo", player.getOrderNo() != null ? player.getOrderNo() : 0
         );
         GameMessage message = GameMessage.of("PLAYER_JOINED", roomCode, Map.of("player", playerData));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
     
     private void broadcastGameStarted(String roomCode) {
         // 현재 방 상태와 플레이어 정보를 함께 전송
-        GameStateResponse roomState = getRoomState(roomCode);
+        GameStateResponse roomState = readRoomState(roomCode);
         
         Map<String, Object> gameStartData = Map.of(
                 "message", "게임이 시작되었습니다",
@@ -460,17 +442,22 @@ public class GameRoomService {
         );
         
         GameMessage message = GameMessage.of("GAME_STARTED", roomCode, gameStartData);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
     
+    // 커밋 뒤에 한 번만 전송 (같은 트랜잭션의 여러 갱신 요청은 하나로 합쳐진다)
     public void broadcastRoomStateUpdate(String roomCode) {
-        GameStateResponse roomState = getRoomState(roomCode);
-        GameMessage message = GameMessage.of("ROOM_STATE_UPDATE", roomCode, roomState);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.publishState(roomCode, () -> readRoomState(roomCode));
     }
     
+    @DetachesLiveRoom
     public void handlePlayerDisconnection(String roomCode, Long playerId) {
-        GameRoom room = gameRoomRepository.findByCode(roomCode)
+        roomCommandLocks.lockUntilCompletion(roomCode);
+        // 진행 중이던 지연 전환(다음 라운드, 게임 종료)은 더 이상 유효하지 않다
+        roomScheduler.cancel(roomCode);
+        liveRoomStore.detach(roomCode);
+
+        GameRoom room = gameRoomRepository.findForCommandByCode(roomCode)
                 .orElse(null);
         
         if (room == null) {
@@ -500,7 +487,7 @@ public class GameRoomService {
         
         // 게임이 진행 중인 경우에만 게임 중단 처리
         if (room.getState() == GameRoom.RoomState.ROUND) {
-            List<Player> activePlayers = playerRepository.findByRoomCodeAndLeftAtIsNull(roomCode);
+            List<Player> activePlayers = playerRepository.findActiveByRoomId(room.getRoomId());
             
             log.info("플레이어 퇴장으로 인한 게임 중단 확인: 방 {}, 남은 플레이어 {}", roomCode, activePlayers.size());
             
@@ -551,7 +538,7 @@ public class GameRoomService {
                 )
         );
         GameMessage message = GameMessage.of("GAME_INTERRUPTED", roomCode, interruptData);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
     
     private void broadcastPlayerLeft(String roomCode, Player player) {
@@ -563,7 +550,7 @@ public class GameRoomService {
                 "orderNo", player.getOrderNo() != null ? player.getOrderNo() : 0
         );
         GameMessage message = GameMessage.of("PLAYER_LEFT", roomCode, Map.of("player", playerData));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
     
     private void deleteRoomCompletely(GameRoom room, Player hostPlayer) {
@@ -577,33 +564,18 @@ public class GameRoomService {
             // 1. 먼저 남은 플레이어들에게 방 삭제 알림 브로드캐스트
             broadcastRoomDeletion(roomCode, hostPlayer);
             
-            // 2. 데이터베이스에서 관련 데이터 삭제 (외래키 순서 고려)
-            // Vote 데이터 삭제 (Round 참조)
-            List<Round> rounds = roundRepository.findByRoomCodeOrderByIdxAsc(roomCode);
-            for (Round round : rounds) {
-                voteRepository.deleteByRoundRoundId(round.getRoundId());
-                messageLogRepository.deleteByRoundRoundId(round.getRoundId());
-            }
-            
-            // Round 데이터 삭제
-            roundRepository.deleteByRoomRoomId(roomId);
-            
-            // MessageLog 데이터 삭제 (Player 참조)
-            messageLogRepository.deleteByRoomId(roomId);
-            
-            // AuditLog 데이터 삭제
-            auditLogRepository.deleteByRoomId(roomId);
-            
-            // Player 데이터 삭제
-            playerRepository.deleteByRoomRoomId(roomId);
-            
-            // GameRoom 데이터 삭제
-            gameRoomRepository.delete(room);
+            // 2. 데이터베이스에서 관련 데이터 삭제 (커밋 후 백그라운드에서 벌크 삭제)
+            roomScheduler.cancel(roomCode);
+            roomTeardown.deleteRoomAsync(roomCode, roomId);
             
             logAudit(roomId, hostPlayer.getPlayerId(), "ROOM_DELETED", 
                     String.format("호스트 %s 퇴장으로 인한 방 삭제", hostPlayer.getNickname()));
             
-            log.info("방 {} 완전 삭제 완료", roomCode);
+            roomEventDispatcher.cancelState(roomCode);
+            roomStateBroadcaster.forget(roomCode);
+            gameMetrics.forgetRoom(roomCode);
+
+            log.info("방 {} 완전 삭제 예약", roomCode);
             
         } catch (Exception e) {
             log.error("방 {} 삭제 중 오류 발생: {}", roomCode, e.getMessage(), e);
@@ -621,15 +593,17 @@ public class GameRoomService {
         );
         
         GameMessage message = GameMessage.of("ROOM_DELETED", roomCode, deletionData);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
         
         log.info("방 {} 삭제 알림 브로드캐스트 완료", roomCode);
     }
 
     public boolean assignNewHost(String roomCode, Long leavingHostId) {
       try {
+        LiveRoom live = liveRoomStore.get(roomCode);
+
         // 떠나는 호스트를 제외한 생존자 중에서 새 호스트를 선택
-        List<Player> alivePlayers = playerRepository.findByRoomCodeAndLeftAtIsNullAndIsAliveTrue(roomCode)
+        List<Player> alivePlayers = live.getAlivePlayers()
             .stream()
             .filter(player -> !player.getPlayerId().equals(leavingHostId))
             .collect(Collectors.toList());
@@ -651,7 +625,7 @@ public class GameRoomService {
 
         // 새 호스트 권한 부여
         newHost.setIsHost(true);
-        playerRepository.save(newHost);
+        writeBehind.savePlayers(roomCode, List.of(newHost));
 
         log.info("새 호스트 임명 완료: 방 {}, 새 호스트 {}", roomCode, newHost.getNickname());
 
@@ -659,14 +633,11 @@ public class GameRoomService {
         broadcastNewHostAssigned(roomCode, newHost);
 
         // 새 호스트에게 개인 알림 전송
-        sendPersonalHostNotification(newHost);
+        sendPersonalHostNotification(roomCode, newHost);
 
         // 감사 로그 기록
-        GameRoom room = gameRoomRepository.findByCode(roomCode).orElse(null);
-        if (room != null) {
-          logAudit(room.getRoomId(), newHost.getPlayerId(), "NEW_HOST_ASSIGNED",
-              String.format("새 호스트 임명: %s", newHost.getNickname()));
-        }
+        logAudit(live.getRoom().getRoomId(), newHost.getPlayerId(), "NEW_HOST_ASSIGNED",
+            String.format("새 호스트 임명: %s", newHost.getNickname()));
 
         return true;
 
@@ -682,12 +653,12 @@ public class GameRoomService {
         "message", String.format("%s님이 새로운 호스트가 되었습니다.", newHost.getNickname())
     );
     GameMessage message = GameMessage.of("NEW_HOST_ASSIGNED", roomCode, hostData);
-    messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+    roomEventDispatcher.send(roomCode, message);
 
     log.info("새 호스트 임명 알림 브로드캐스트 완료: 방 {}, 새 호스트 {}", roomCode, newHost.getNickname());
   }
 
-  private void sendPersonalHostNotification(Player newHost) {
+  private void sendPersonalHostNotification(String roomCode, Player newHost) {
     try {
       Map<String, Object> personalData = Map.of(
           "title", "🎯 새로운 호스트 임명",
@@ -697,16 +668,13 @@ public class GameRoomService {
       );
 
       GameMessage personalMessage = GameMessage.of("PERSONAL_HOST_NOTIFICATION",
-          newHost.getRoom().getCode(), personalData);
+          roomCode, personalData);
 
-      // 개인 큐로 메시지 전송
-      messagingTemplate.convertAndSendToUser(
-          newHost.getPlayerId().toString(),
-          "/queue/player",
-          personalMessage
-      );
+      // 개인 큐로 메시지 전송 (방 이벤트와 함께 커밋 뒤)
+      roomEventDispatcher.sendToUser(roomCode, newHost.getPlayerId().toString(), "/queue/player",
+          personalMessage);
 
-      log.info("새 호스트 개인 알림 전송 완료: 플레이어 ID {}, 닉네임 {}",
+      log.info("새 호스트 개인 알림 요청 완료: 플레이어 ID {}, 닉네임 {}",
           newHost.getPlayerId(), newHost.getNickname());
 
     } catch (Exception e) {
@@ -721,19 +689,11 @@ public class GameRoomService {
         log.info("게임 중단으로 인한 현재 라운드 데이터 정리 시작: 방 {}", roomCode);
 
         try {
-            // 현재 라운드의 모든 관련 데이터 삭제
-            List<Round> rounds = roundRepository.findByRoomCodeOrderByIdxAsc(roomCode);
-            for (Round round : rounds) {
-                // 투표 데이터 삭제
-                voteRepository.deleteByRoundRoundId(round.getRoundId());
-                // 메시지 로그 삭제
-                messageLogRepository.deleteByRoundRoundId(round.getRoundId());
-            }
-
-            // 라운드 데이터 삭제
-            roundRepository.deleteByRoomRoomId(roomId);
+            // 현재 라운드의 투표/발언/라운드를 벌크 삭제
+            int rows = roomTeardown.deleteRounds(roomId);
+            gameMetrics.forgetRoom(roomCode);
 
-            log.info("라운드 데이터 정리 완료: 방 {}", roomCode);
+            log.info("라운드 데이터 정리 완료: 방 {}, {}행", roomCode, rows);
 
         } catch (Exception e) {
             log.error("라운드 데이터 정리 중 오류 발생: 방 {}, 오류: {}", roomCode, e.getMessage(), e);
@@ -0,0 +1,136 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.MessageLog;
+import com.liargame.domain.entity.Player;
+import com.liargame.domain.entity.Round;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 방의 메모리 상태 (방, 활성 플레이어, 현재 라운드와 라운드의 투표/발언)
+ * LiveRoomStore 가 소유하며, 변경은 방 잠금(lock/unlock)을 잡은 상태에서만 수행한다.
+ * 여기 담긴 엔티티는 영속성 컨텍스트와 분리된 스냅샷이므로 지연 로딩 연관관계에 접근하면 안 된다.
+ */
+@Getter
+public class LiveRoom {
+
+    private final GameRoom room;
+    private final Map<Long, Player> players = new LinkedHashMap<>();
+    private Round currentRound;
+    @Getter(AccessLevel.NONE)
+    private VoteTally voteTally;
+    @Getter(AccessLevel.NONE)
+    private VoteTally finalVoteTally;
+    private final List<LiveMessage> messages = new ArrayList<>();
+    private volatile long lastAccessedAt = System.currentTimeMillis();
+
+    // synchronized 대신 ReentrantLock - 잠금 안에서 JDBC/브로커 I/O 로 대기해도 가상 스레드가 캐리어에 고정되지 않는다
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public LiveRoom(GameRoom room, List<Player> activePlayers, Round currentRound) {
+        this.room = room;
+        this.currentRound = currentRound;
+        activePlayers.forEach(p -> players.put(p.getPlayerId(), p));
+        resetTallies();
+    }
+
+    public String getCode() {
+        return room.getCode();
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+
+    public Optional<Player> findPlayer(Long playerId) {
+        return Optional.ofNullable(players.get(playerId));
+    }
+
+    public List<Player> getActivePlayers() {
+        return new ArrayList<>(players.values());
+    }
+
+    public List<Player> getAlivePlayers() {
+        return players.values().stream()
+                .filter(Player::getIsAlive)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<Player> findLiar() {
+        return players.values().stream()
+                .filter(p -> p.getRole() == Player.PlayerRole.LIAR)
+                .findFirst();
+    }
+
+    // 새 라운드로 교체 - 이전 라운드의 투표/발언은 메모리에서 버린다
+    public void startRound(Round round) {
+        this.currentRound = round;
+        messages.clear();
+        resetTallies();
+    }
+
+    /**
+     * 현재 라운드가 expected 상태일 때만 next 로 바꾼다 - 이미 다른 요청이 넘긴 전환을 다시 실행하지 않기 위함
+     */
+    public boolean transitionRound(Round.RoundState expected, Round.RoundState next) {
+        if (currentRound == null || currentRound.getState() != expected) {
+            return false;
+        }
+        currentRound.setState(next);
+        return true;
+    }
+
+    // 라운드 중에는 생존자가 바뀌지 않으므로 라운드 시작 시점의 생존자 수로 투표 가능 인원을 정한다
+    private void resetTallies() {
+        int alive = (int) players.values().stream().filter(Player::getIsAlive).count();
+        voteTally = new VoteTally(alive);
+        // 생존/사망 투표는 지목된 플레이어를 제외
+        finalVoteTally = new VoteTally(Math.max(0, alive - 1));
+    }
+
+    public VoteTally getVoteTally(boolean isFinalVote) {
+        return isFinalVote ? finalVoteTally : voteTally;
+    }
+
+    public boolean hasVoted(Long voterId, boolean isFinalVote) {
+        return getVoteTally(isFinalVote).hasVoted(voterId);
+    }
+
+    public boolean addVote(LiveVote vote) {
+        return getVoteTally(vote.isFinalVote()).record(vote.voterId(), vote.targetId(), vote.decision());
+    }
+
+    public void addMessage(LiveMessage message) {
+        messages.add(message);
+    }
+
+    public long countDistinctSpeakers(MessageLog.MessageType type) {
+        return messages.stream()
+                .filter(m -> m.type() == type)
+                .map(LiveMessage::playerId)
+                .distinct()
+                .count();
+    }
+
+    public record LiveVote(Long voterId, Long targetId, boolean isFinalVote, String decision) {
+    }
+
+    public record LiveMessage(Long playerId, String nickname, MessageLog.MessageType type,
+                              String text, String summary, LocalDateTime createdAt) {
+    }
+}
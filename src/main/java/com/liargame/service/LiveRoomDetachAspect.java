@@ -0,0 +1,37 @@
+package com.liargame.service;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @DetachesLiveRoom 메서드의 트랜잭션 바깥에서 LiveRoom 을 먼저 내린다.
+ * write-behind 워커는 같은 행을 별도 트랜잭션으로 쓰므로, 호출한 쪽이 커넥션과 트랜잭션을 잡은 채
+ * flush 를 기다리면 커넥션 풀이 마르거나 행 잠금을 서로 기다릴 수 있다.
+ * 트랜잭션 인터셉터보다 바깥에서 돌도록 가장 높은 우선순위를 둔다.
+ * 이미 트랜잭션 안에서 호출된 경우(중첩 호출)는 바깥 메서드가 먼저 비웠으므로 건너뛰고,
+ * 메서드 본문의 detach 가 커밋 후 정리와 그 사이 다시 적재된 상태를 처리한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class LiveRoomDetachAspect {
+
+    private final LiveRoomStore liveRoomStore;
+
+    @Around("@annotation(com.liargame.service.DetachesLiveRoom)")
+    public Object detachBeforeTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                && joinPoint.getArgs().length > 0
+                && joinPoint.getArgs()[0] instanceof String roomCode) {
+            liveRoomStore.detach(roomCode);
+        }
+        return joinPoint.proceed();
+    }
+}
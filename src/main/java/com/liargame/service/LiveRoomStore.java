@@ -0,0 +1,171 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.*;
+import com.liargame.domain.repository.*;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 방의 권위 있는 메모리 상태 저장소
+ * 게임 액션은 DB 대신 여기서 방/플레이어/현재 라운드를 읽고 변경하며,
+ * 변경 사항은 LiveRoomWriteBehind 를 통해 백그라운드로 DB 에 반영된다.
+ * DB 를 직접 변경하는 경로는 먼저 detach 를 호출해 대기 중인 쓰기를 반영하고 캐시를 비워야 한다.
+ * 쓰기가 반영되지 못한 방(트랜잭션 롤백, 재시도 실패)은 메모리 상태가 DB 와 어긋나므로 버리고 다음 접근 때 다시 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveRoomStore {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final PlayerRepository playerRepository;
+    private final RoundRepository roundRepository;
+    private final VoteRepository voteRepository;
+    private final MessageLogRepository messageLogRepository;
+    private final LiveRoomWriteBehind writeBehind;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.live-room.idle-ttl-ms:1800000}")
+    private long idleTtlMs;
+
+    private final ConcurrentHashMap<String, LiveRoom> rooms = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("liargame.rooms.live", this, LiveRoomStore::size)
+                .description("메모리에 적재된 진행 중인 방 수")
+                .register(meterRegistry);
+        writeBehind.onWriteFailure(this::discard);
+    }
+
+    // 메모리에 없으면 DB 에서 적재 (대기 중인 쓰기를 먼저 반영한 뒤 읽는다)
+    public LiveRoom get(String roomCode) {
+        LiveRoom live = rooms.get(roomCode);
+        if (live == null) {
+            // computeIfAbsent 는 적재(JDBC)하는 동안 맵 칸을 synchronized 로 잡아 가상 스레드를 고정시키므로,
+            // 잠금 밖에서 적재하고 먼저 넣은 쪽을 쓴다 (동시에 적재한 쪽은 버려진다)
+            LiveRoom loaded = load(roomCode);
+            LiveRoom existing = rooms.putIfAbsent(roomCode, loaded);
+            live = existing != null ? existing : loaded;
+        }
+        live.touch();
+        return live;
+    }
+
+    public LiveRoom getIfPresent(String roomCode) {
+        LiveRoom live = rooms.get(roomCode);
+        if (live != null) {
+            live.touch();
+        }
+        return live;
+    }
+
+    /**
+     * DB 를 직접 변경하기 전에 호출: 대기 중인 쓰기를 반영하고 메모리 상태를 버린다.
+     * 반영이 시간 안에 끝나지 않으면 예외가 나고 메모리 상태는 그대로 남는다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 비워, 커밋 전 상태가 다시 적재되는 것을 막는다.
+     * 서비스 메서드는 @DetachesLiveRoom 으로 트랜잭션 전에 먼저 비워 두고, 본문에서 다시 호출한다.
+     */
+    public void detach(String roomCode) {
+        if (rooms.containsKey(roomCode)) {
+            writeBehind.flush(roomCode);
+            rooms.remove(roomCode);
+            log.debug("LiveRoom 해제: 방 {}", roomCode);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    rooms.remove(roomCode);
+                }
+            });
+        }
+    }
+
+    // 반영되지 못한 쓰기가 있는 방 - 대기 중인 쓰기는 다음 적재 전에 반영된다
+    private void discard(String roomCode) {
+        if (rooms.remove(roomCode) != null) {
+            log.warn("쓰기가 반영되지 않아 LiveRoom 해제: 방 {}", roomCode);
+        }
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    // 오래 사용되지 않았거나 종료된 방은 쓰기를 반영한 뒤 메모리에서 내린다
+    @Scheduled(fixedDelayString = "${liargame.live-room.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((code, live) -> {
+            boolean idle = now - live.getLastAccessedAt() > idleTtlMs;
+            boolean ended = live.getRoom().getState() == GameRoom.RoomState.END;
+            if (idle || ended) {
+                try {
+                    writeBehind.flush(code);
+                } catch (RuntimeException e) {
+                    // 반영되지 않은 쓰기가 있으면 메모리 상태를 남겨 두고 다음 주기에 다시 시도
+                    log.warn("LiveRoom 제거 보류: 방 {}, {}", code, e.getMessage());
+                    return;
+                }
+                rooms.remove(code, live);
+                log.debug("LiveRoom 제거: 방 {} (idle: {}, ended: {})", code, idle, ended);
+            }
+        });
+    }
+
+    private LiveRoom load(String roomCode) {
+        writeBehind.flush(roomCode);
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+
+        LiveRoom live = template.execute(status -> {
+            GameRoom room = gameRoomRepository.findByCode(roomCode)
+                    .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+            Hibernate.initialize(room.getTheme());
+
+            List<Player> players = playerRepository.findActiveByRoomId(room.getRoomId());
+            Round round = room.getCurrentRound() != null
+                    ? roundRepository.findByRoomIdAndIdx(room.getRoomId(), room.getCurrentRound()).orElse(null)
+                    : null;
+
+            LiveRoom loaded = new LiveRoom(room, players, round);
+            if (round != null) {
+                for (boolean isFinalVote : new boolean[]{false, true}) {
+                    voteRepository.findByRoundRoundIdAndIsFinalVote(round.getRoundId(), isFinalVote)
+                            .forEach(v -> loaded.addVote(new LiveRoom.LiveVote(
+                                    v.getVoter().getPlayerId(), v.getTarget().getPlayerId(),
+                                    Boolean.TRUE.equals(v.getIsFinalVote()), v.getDecision())));
+                }
+                messageLogRepository.findByRoundRoundIdOrderByCreatedAtAsc(round.getRoundId())
+                        .forEach(m -> loaded.addMessage(new LiveRoom.LiveMessage(
+                                m.getPlayer() != null ? m.getPlayer().getPlayerId() : null,
+                                m.getPlayer() != null ? m.getPlayer().getNickname() : null,
+                                m.getType(), m.getText(), m.getSummary(), m.getCreatedAt())));
+            }
+            return loaded;
+        });
+
+        log.debug("LiveRoom 적재: 방 {}, 플레이어 {}명", roomCode, live.getPlayers().size());
+        return live;
+    }
+}
@@ -0,0 +1,447 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.*;
+import com.liargame.domain.repository.*;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * LiveRoom 변경 사항을 백그라운드에서 DB 에 반영하는 write-behind 큐
+ * 방 코드 해시로 워커를 고정하므로 같은 방의 쓰기는 항상 요청 순서대로 반영된다.
+ * 각 작업은 호출 시점의 값을 캡처하고, 워커 스레드에서 관리 엔티티에 복사한다.
+ * 트랜잭션 안에서 요청된 작업은 커밋된 뒤에 큐에 넣고, 롤백되면 버린다.
+ * 롤백으로 버린 작업이나 개별 재시도까지 실패한 작업이 있으면 등록된 리스너(LiveRoomStore)에 알려
+ * 그 방의 메모리 상태를 버리게 한다.
+ * 클러스터 모드에서는 반영 트랜잭션마다 임대 펜스(RoomOwnership)로 방 임대를 확인하고, 임대를 잃은 방의 작업은 반영하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveRoomWriteBehind {
+
+    private static final String FLUSH_PENDING_MESSAGE = "이전 진행 내용을 저장하는 중입니다. 잠시 후 다시 시도해주세요";
+
+    private final GameRoomRepository gameRoomRepository;
+    private final PlayerRepository playerRepository;
+    private final RoundRepository roundRepository;
+    private final VoteRepository voteRepository;
+    private final MessageLogRepository messageLogRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final GameMetrics gameMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.live-room.write-behind.workers:2}")
+    private int workerCount;
+
+    @Value("${liargame.live-room.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${liargame.live-room.write-behind.flush-timeout-ms:5000}")
+    private long flushTimeoutMs;
+
+    private TransactionTemplate transactionTemplate;
+    private Worker[] workers;
+
+    // 현재 트랜잭션에서 요청된 작업 목록의 자원 키 (this 는 배치 트랜잭션의 라운드 ID 에 쓴다)
+    private final Object pendingKey = new Object();
+
+    private final List<Consumer<String>> failureListeners = new CopyOnWriteArrayList<>();
+
+    // 반영할 방 코드 -> 이 노드가 임대를 잃은 방 코드 (반영 트랜잭션 안에서 호출)
+    private volatile Function<Collection<String>, Set<String>> leaseFence = roomCodes -> Set.of();
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        workers = new Worker[Math.max(1, workerCount)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker("live-room-writer-" + i);
+            workers[i].thread.start();
+        }
+        Gauge.builder("liargame.write-behind.pending", this, LiveRoomWriteBehind::pendingCount)
+                .description("DB 반영 대기 중인 write-behind 작업 수")
+                .register(meterRegistry);
+        log.info("LiveRoom write-behind 시작: 워커 {}개, 배치 크기 {}", workers.length, batchSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        // 종료 시 남은 작업을 모두 반영한 뒤 워커를 멈춘다
+        for (Worker worker : workers) {
+            worker.running = false;
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!worker.queue.isEmpty()) {
+                log.warn("write-behind 종료 시 미반영 작업 {}건: {}", worker.queue.size(), worker.thread.getName());
+            }
+        }
+    }
+
+    public void saveRoom(GameRoom room) {
+        Long roomId = room.getRoomId();
+        GameRoom.RoomState state = room.getState();
+        Integer currentRound = room.getCurrentRound();
+        LocalDateTime endedAt = room.getEndedAt();
+
+        enqueue(room.getCode(), () -> gameRoomRepository.findById(roomId).ifPresent(r -> {
+            r.setState(state);
+            r.setCurrentRound(currentRound);
+            r.setEndedAt(endedAt);
+        }));
+    }
+
+    public void savePlayers(String roomCode, Collection<Player> players) {
+        Map<Long, PlayerValues> values = players.stream()
+                .collect(Collectors.toMap(Player::getPlayerId, PlayerValues::of, (a, b) -> b));
+
+        enqueue(roomCode, () -> playerRepository.findAllById(values.keySet())
+                .forEach(p -> values.get(p.getPlayerId()).applyTo(p)));
+    }
+
+    public void insertRound(String roomCode, Long roomId, Round round) {
+        Integer idx = round.getIdx();
+        Round.RoundState state = round.getState();
+        LocalDateTime startedAt = round.getStartedAt();
+        gameMetrics.roundStarted(roomCode, state);
+
+        enqueue(roomCode, () -> {
+            Round entity = Round.builder()
+                    .room(gameRoomRepository.getReferenceById(roomId))
+                    .idx(idx)
+                    .state(state)
+                    .startedAt(startedAt)
+                    .build();
+            roundRepository.save(entity);
+            // 배치가 롤백되면 ID 가 사라지므로 커밋 전까지는 트랜잭션 안에서만 쓰고, 커밋된 뒤 스냅샷에 기록한다
+            uncommittedRoundIds().put(round, entity.getRoundId());
+        });
+    }
+
+    public void updateRound(String roomCode, Round round) {
+        Round.RoundState state = round.getState();
+        Long accusedPlayerId = round.getAccusedPlayerId();
+        LocalDateTime endedAt = round.getEndedAt();
+        gameMetrics.roundStateChanged(roomCode, state);
+
+        enqueue(roomCode, () -> {
+            Long roundId = roundIdOf(round);
+            if (roundId == null) {
+                return;
+            }
+            roundRepository.findById(roundId).ifPresent(r -> {
+                r.setState(state);
+                r.setAccusedPlayerId(accusedPlayerId);
+                r.setEndedAt(endedAt);
+            });
+        });
+    }
+
+    public void insertVote(String roomCode, Round round, LiveRoom.LiveVote vote) {
+        enqueue(roomCode, () -> voteRepository.save(Vote.builder()
+                .round(roundRepository.getReferenceById(roundIdOf(round)))
+                .voter(playerRepository.getReferenceById(vote.voterId()))
+                .target(playerRepository.getReferenceById(vote.targetId()))
+                .isFinalVote(vote.isFinalVote())
+                .decision(vote.decision())
+                .build()));
+    }
+
+    public void insertMessage(String roomCode, Long roomId, Round round, LiveRoom.LiveMessage message) {
+        enqueue(roomCode, () -> messageLogRepository.save(MessageLog.builder()
+                .roomId(roomId)
+                .round(roundRepository.getReferenceById(roundIdOf(round)))
+                .player(playerRepository.getReferenceById(message.playerId()))
+                .type(message.type())
+                .text(message.text())
+                .summary(message.summary())
+                .createdAt(message.createdAt())
+                .build()));
+    }
+
+    /**
+     * 반영에 실패한 작업의 방 코드를 받을 리스너 등록
+     */
+    public void onWriteFailure(Consumer<String> listener) {
+        failureListeners.add(listener);
+    }
+
+    /**
+     * 반영 트랜잭션 안에서 방 임대를 확인할 펜스 등록 - 돌려준 방의 작업은 반영하지 않고 실패로 알린다
+     */
+    public void setLeaseFence(Function<Collection<String>, Set<String>> fence) {
+        this.leaseFence = fence;
+    }
+
+    /**
+     * 해당 방에 대해 지금까지 큐에 쌓인 쓰기가 커밋될 때까지 대기
+     * DB 를 직접 읽고 쓰는 경로(대기실 처리, 방 삭제 등)에 들어가기 전에 호출한다.
+     * 현재 트랜잭션에서 요청된 그 방의 작업은 큐를 거치지 않고 이 트랜잭션에서 바로 반영한다 (롤백되면 함께 사라진다).
+     * 시간 안에 반영되지 않으면 예외를 던지므로, 호출한 쪽은 메모리 상태를 버리거나 DB 를 읽지 않고 중단한다.
+     */
+    public void flush(String roomCode) {
+        Worker worker = workerFor(roomCode);
+        if (Thread.currentThread() == worker.thread) {
+            return;
+        }
+        awaitQueued(worker, roomCode);
+
+        @SuppressWarnings("unchecked")
+        List<WriteOp> pending = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (List<WriteOp>) TransactionSynchronizationManager.getResource(pendingKey)
+                : null;
+        if (pending != null) {
+            for (Iterator<WriteOp> it = pending.iterator(); it.hasNext(); ) {
+                WriteOp op = it.next();
+                if (op.roomCode().equals(roomCode)) {
+                    it.remove();
+                    op.apply();
+                }
+            }
+        }
+    }
+
+    private void awaitQueued(Worker worker, String roomCode) {
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        worker.queue.add(new WriteOp(roomCode, null, flushed));
+        try {
+            flushed.get(flushTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("write-behind flush 시간 초과: 방 {}, 대기 {}ms", roomCode, flushTimeoutMs);
+            throw new RuntimeException(FLUSH_PENDING_MESSAGE);
+        } catch (ExecutionException e) {
+            log.error("write-behind flush 실패: 방 {}, 오류: {}", roomCode, e.getMessage());
+            throw new RuntimeException(FLUSH_PENDING_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(FLUSH_PENDING_MESSAGE);
+        }
+    }
+
+    public int pendingCount() {
+        return Arrays.stream(workers).mapToInt(w -> w.queue.size()).sum();
+    }
+
+    private void enqueue(String roomCode, Runnable action) {
+        WriteOp op = new WriteOp(roomCode, action, null);
+        List<WriteOp> pending = pendingOps();
+        if (pending != null) {
+            pending.add(op);
+            return;
+        }
+        workerFor(roomCode).queue.add(op);
+    }
+
+    // 현재 트랜잭션에서 요청된 작업 - 커밋된 뒤에 큐에 넣고, 롤백되면 메모리 변경과 함께 버린다
+    private List<WriteOp> pendingOps() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        List<WriteOp> pending = (List<WriteOp>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<WriteOp> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(pendingKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // 방 명령 잠금이 완료 콜백에서 풀리기 전에 롤백된 방을 버리도록 가장 먼저 실행한다
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            // REQUIRES_NEW 로 중첩된 트랜잭션은 자기 목록을 따로 가진다
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(pendingKey, created);
+            }
+
+            @Override
+            public void afterCommit() {
+                created.forEach(op -> workerFor(op.roomCode()).queue.add(op));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                if (status != STATUS_COMMITTED && !created.isEmpty()) {
+                    log.debug("트랜잭션 롤백으로 write-behind 작업 {}건 버림", created.size());
+                    // 작업과 함께 바뀐 메모리 상태도 롤백되어야 하므로 그 방을 버린다
+                    notifyFailure(created.stream().map(WriteOp::roomCode).collect(Collectors.toSet()));
+                }
+            }
+        });
+        return created;
+    }
+
+    private Worker workerFor(String roomCode) {
+        return workers[Math.floorMod(roomCode.hashCode(), workers.length)];
+    }
+
+    // 커밋된 ID 가 없으면 같은 배치 트랜잭션에서 방금 만든 라운드의 ID 를 쓴다
+    private Long roundIdOf(Round round) {
+        if (round.getRoundId() != null) {
+            return round.getRoundId();
+        }
+        @SuppressWarnings("unchecked")
+        Map<Round, Long> uncommitted = (Map<Round, Long>) TransactionSynchronizationManager.getResource(this);
+        return uncommitted != null ? uncommitted.get(round) : null;
+    }
+
+    // 현재 배치 트랜잭션에서 만든 라운드 ID (Round 는 @Data 라 값이 바뀌므로 인스턴스 기준으로 구분)
+    private Map<Round, Long> uncommittedRoundIds() {
+        @SuppressWarnings("unchecked")
+        Map<Round, Long> uncommitted = (Map<Round, Long>) TransactionSynchronizationManager.getResource(this);
+        if (uncommitted != null) {
+            return uncommitted;
+        }
+
+        Map<Round, Long> created = new IdentityHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(Round::setRoundId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(LiveRoomWriteBehind.this);
+            }
+        });
+        return created;
+    }
+
+    private void applyBatch(List<WriteOp> batch) {
+        Set<String> failedRooms = new LinkedHashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyFenced(batch, failedRooms));
+        } catch (Exception batchError) {
+            // 한 건의 실패가 배치 전체를 버리지 않도록 개별 트랜잭션으로 재시도
+            log.warn("write-behind 배치 반영 실패, 개별 재시도: {}건, 오류: {}", batch.size(), batchError.getMessage());
+            for (WriteOp op : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> applyFenced(List.of(op), failedRooms));
+                } catch (Exception e) {
+                    log.error("write-behind 작업 반영 실패: 방 {}, 오류: {}", op.roomCode(), e.getMessage(), e);
+                    failedRooms.add(op.roomCode());
+                }
+            }
+        }
+        // 메모리 상태가 DB 와 어긋났으므로 그 방은 버리고 다음 접근 때 DB 에서 다시 적재한다
+        notifyFailure(failedRooms);
+        batch.stream()
+                .filter(op -> op.flushed() != null)
+                .forEach(op -> op.flushed().complete(null));
+    }
+
+    // 임대를 잃은 방의 작업은 건너뛰고 실패로 모은다 - 넘겨받은 노드의 쓰기를 늦게 덮어쓰지 않도록
+    private void applyFenced(List<WriteOp> ops, Set<String> failedRooms) {
+        Set<String> rooms = ops.stream()
+                .filter(op -> op.action() != null && !failedRooms.contains(op.roomCode()))
+                .map(WriteOp::roomCode)
+                .collect(Collectors.toSet());
+        Set<String> fenced = leaseFence.apply(rooms);
+        if (!fenced.isEmpty()) {
+            log.warn("임대를 잃은 방의 write-behind 작업 버림: {}", fenced);
+            failedRooms.addAll(fenced);
+        }
+        for (WriteOp op : ops) {
+            if (!failedRooms.contains(op.roomCode())) {
+                op.apply();
+            }
+        }
+    }
+
+    private void notifyFailure(Collection<String> roomCodes) {
+        roomCodes.forEach(roomCode -> failureListeners.forEach(listener -> listener.accept(roomCode)));
+    }
+
+    private record WriteOp(String roomCode, Runnable action, CompletableFuture<Void> flushed) {
+        void apply() {
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    private record PlayerValues(Boolean isHost, Player.PlayerRole role, Boolean isAlive,
+                                Integer orderNo, String cardWord) {
+        static PlayerValues of(Player p) {
+            return new PlayerValues(p.getIsHost(), p.getRole(), p.getIsAlive(), p.getOrderNo(), p.getCardWord());
+        }
+
+        void applyTo(Player p) {
+            p.setIsHost(isHost);
+            p.setRole(role);
+            p.setIsAlive(isAlive);
+            p.setOrderNo(orderNo);
+            p.setCardWord(cardWord);
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final BlockingQueue<WriteOp> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Worker(String name) {
+            this.thread = new Thread(this, name);
+        }
+
+        @Override
+        public void run() {
+            List<WriteOp> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    WriteOp first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    applyBatch(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("write-behind 워커 오류: {}", e.getMessage(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
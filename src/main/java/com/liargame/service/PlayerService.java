@@ -3,14 +3,15 @@ package com.liargame.service;
 import com.liargame.config.PlayerDisconnectEvent;
 import com.liargame.domain.entity.Player;
 import com.liargame.domain.repository.PlayerRepository;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import com.liargame.websocket.GameMessage;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -20,15 +21,23 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "liargame.service", histogram = true)
 public class PlayerService {
     
     private final PlayerRepository playerRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final RoomEventDispatcher roomEventDispatcher;
+    private final LiveRoomStore liveRoomStore;
+    private final RoomOwnership roomOwnership;
+    private final RoomForwarder roomForwarder;
     
     @Autowired
     private ApplicationContext applicationContext;
     
+    @DetachesLiveRoom
     public void leaveRoom(String roomCode, Long playerId) {
+        // 진행 중인 변경은 트랜잭션 전에 반영됐다 (@DetachesLiveRoom) - 커밋 후 정리와 그 사이 다시 적재된 상태만 처리
+        liveRoomStore.detach(roomCode);
+
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("플레이어를 찾을 수 없습니다"));
         
@@ -71,17 +80,27 @@ public class PlayerService {
                 "orderNo", player.getOrderNo() != null ? player.getOrderNo() : 0
         );
         GameMessage message = GameMessage.of("PLAYER_LEFT", roomCode, Map.of("player", playerData));
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+        roomEventDispatcher.send(roomCode, message);
     }
     
+    // 트랜잭션 없이 받아 leaveRoom 을 프록시로 호출해야 트랜잭션을 열기 전에 LiveRoom 을 내릴 수 있다
     @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void handlePlayerDisconnectEvent(PlayerDisconnectEvent event) {
         log.info("WebSocket 연결 해제 이벤트 수신: 방 {}, 플레이어 ID {}, 세션 {}", 
                 event.getRoomCode(), event.getPlayerId(), event.getSessionId());
         
         try {
+            // 세션은 이 노드에 있어도 방은 다른 노드가 소유할 수 있으므로 소유 노드에서 퇴장 처리
+            RoomOwnership.Route route = roomOwnership.route(event.getRoomCode());
+            if (!route.local()) {
+                roomForwarder.forward(route, "GET", "/api/rooms/" + event.getRoomCode()
+                        + "/leave?playerId=" + event.getPlayerId(), null, null);
+                return;
+            }
+
             // 기존 leaveRoom 메서드 호출
-            this.leaveRoom(event.getRoomCode(), event.getPlayerId());
+            applicationContext.getBean(PlayerService.class).leaveRoom(event.getRoomCode(), event.getPlayerId());
         } catch (Exception e) {
             log.error("PlayerDisconnectEvent 처리 중 오류: {}", e.getMessage(), e);
         }
@@ -0,0 +1,112 @@
+package com.liargame.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 중복 확인 없는 방 코드 할당기
+ * 공유 시퀀스에서 block-size 개짜리 카운터 블록을 빌려 와 메모리에서 하나씩 쓰고, 카운터를 키 순열로 코드로 바꾼다.
+ * 블록은 노드마다 겹치지 않고 순열은 일대일이므로 여러 노드에서도 코드가 겹치지 않는다 (모든 노드가 같은 secret 을 써야 함).
+ * 블록의 3/4 를 쓰면 다음 블록을 백그라운드에서 미리 받아 두므로, 방 생성 요청은 보통 DB 를 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomCodeAllocator {
+
+    private static final String SEQUENCE = "room_code_block_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${liargame.room-code.secret:liar-game}")
+    private String secret;
+
+    @Value("${liargame.room-code.block-size:1000}")
+    private int blockSize;
+
+    private RoomCodePermutation permutation;
+    private String nextBlockSql;
+    private ExecutorService prefetcher;
+
+    // 현재 블록의 다음 카운터와 끝 (this 로 보호)
+    private long next;
+    private long end;
+    private CompletableFuture<Long> prefetched;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @PostConstruct
+    void start() {
+        permutation = new RoomCodePermutation(secret);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE);
+        nextBlockSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect()
+                .getSequenceSupport().getSequenceNextValString(SEQUENCE);
+        prefetcher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "room-code-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("방 코드 할당기 시작: 블록 {}개 단위", blockSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        prefetcher.shutdownNow();
+    }
+
+    public String allocate() {
+        long counter;
+        // 블록이 바닥나면 잠금 안에서 시퀀스를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+        lock.lock();
+        try {
+            if (next >= end) {
+                next = takeNextBlock() * blockSize;
+                end = next + blockSize;
+            }
+            counter = next++;
+
+            if (prefetched == null && end - next <= blockSize / 4) {
+                prefetched = CompletableFuture.supplyAsync(this::leaseBlock, prefetcher);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return permutation.encode(counter);
+    }
+
+    private long takeNextBlock() {
+        CompletableFuture<Long> pending = prefetched;
+        prefetched = null;
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                log.warn("방 코드 블록 미리 받기 실패, 다시 시도: {}", e.getCause().getMessage());
+            }
+        }
+        return leaseBlock();
+    }
+
+    private long leaseBlock() {
+        Long block = jdbcTemplate.queryForObject(nextBlockSql, Long.class);
+        if (block == null || (block + 1) * blockSize > RoomCodePermutation.SIZE) {
+            throw new IllegalStateException("방 코드 공간을 모두 사용했습니다: 블록 " + block);
+        }
+        log.debug("방 코드 블록 {} 할당", block);
+        return block;
+    }
+}
@@ -0,0 +1,73 @@
+package com.liargame.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 카운터 -> 8자리 방 코드 키 순열
+ * 36^8 코드 공간을 36^4 x 36^4 로 나눠 모듈러 덧셈 Feistel 을 돌리므로 공간 전체에서 일대일이다.
+ * 서로 다른 카운터는 항상 서로 다른 코드가 되고, 비밀 키 없이는 연속된 카운터의 코드가 이어져 보이지 않는다.
+ */
+final class RoomCodePermutation {
+
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    static final int CODE_LENGTH = 8;
+
+    private static final long HALF = 36L * 36 * 36 * 36;
+    static final long SIZE = HALF * HALF;
+
+    private static final int ROUNDS = 6;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    RoomCodePermutation(String secret) {
+        long seed = ByteBuffer.wrap(sha256(secret)).getLong();
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = mix(seed + (i + 1) * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * [0, SIZE) 범위의 카운터를 방 코드로 변환
+     */
+    String encode(long counter) {
+        if (counter < 0 || counter >= SIZE) {
+            throw new IllegalArgumentException("방 코드 카운터 범위 초과: " + counter);
+        }
+        long value = permute(counter);
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(code);
+    }
+
+    long permute(long value) {
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int i = 0; i < ROUNDS; i++) {
+            long next = (left + Math.floorMod(mix(right ^ roundKeys[i]), HALF)) % HALF;
+            left = right;
+            right = next;
+        }
+        return left * HALF + right;
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
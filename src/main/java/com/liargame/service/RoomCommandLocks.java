@@ -0,0 +1,86 @@
+package com.liargame.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 방 단위 명령 직렬화용 줄무늬(striped) 잠금
+ * 방 코드 해시로 고른 잠금 하나를 트랜잭션이 끝날 때까지 잡으므로, 같은 방의 명령은 커밋(과 커밋 뒤 이벤트 발행)까지
+ * 한 줄로 실행되고 다른 방의 명령은 같은 줄무늬에 걸리지 않는 한 서로 기다리지 않는다.
+ * 잠금 순서는 항상 명령 잠금 -> LiveRoom 잠금이며, 오래 못 잡으면 교착 대신 요청을 실패시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomCommandLocks {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.room-locks.stripes:1024}")
+    private int stripes;
+
+    @Value("${liargame.room-locks.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ReentrantLock[] locks;
+    private Timer waitTimer;
+    private Counter timeoutCounter;
+
+    @PostConstruct
+    void start() {
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        waitTimer = Timer.builder("liargame.room.lock.wait")
+                .description("방 명령 잠금을 얻기까지 기다린 시간")
+                .register(meterRegistry);
+        timeoutCounter = Counter.builder("liargame.room.lock.timeouts")
+                .description("방 명령 잠금을 제한 시간 안에 얻지 못한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때(커밋/롤백 후)까지 방 명령 잠금을 잡는다
+     */
+    public void lockUntilCompletion(String roomCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("방 명령 잠금은 트랜잭션 안에서만 잡을 수 있습니다");
+        }
+        ReentrantLock lock = acquire(roomCode);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock acquire(String roomCode) {
+        ReentrantLock lock = locks[Math.floorMod(roomCode.hashCode(), locks.length)];
+        long startedAt = System.nanoTime();
+        try {
+            if (!lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                timeoutCounter.increment();
+                log.warn("방 {} 명령 잠금 대기 시간 초과 ({}ms)", roomCode, timeoutMs);
+                throw new RuntimeException("방에서 다른 요청을 처리 중입니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("방 명령 잠금 대기 중 중단되었습니다");
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return lock;
+    }
+}
@@ -0,0 +1,354 @@
+package com.liargame.service;
+
+import com.liargame.domain.dto.GameStateResponse;
+import com.liargame.websocket.GameMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 방 토픽 브로드캐스트를 트랜잭션 커밋 뒤에 한 번에 보내는 디스패처
+ * 트랜잭션 안에서 요청된 이벤트는 방별로 모아 두었다가 커밋된 뒤에만 보내고, 롤백되면 버린다.
+ * 같은 트랜잭션에서 방 상태 갱신이 여러 번 요청되면 그 트랜잭션의 이벤트 뒤에 한 번만 보내며,
+ * 상태는 커밋된 뒤에 만들어 클라이언트가 아직 커밋되지 않은 상태를 받지 않게 한다.
+ * coalesce-window-ms 가 0 보다 크면 방 상태 갱신을 그 주기만큼 모아 방마다 한 번씩 보낸다.
+ * 트랜잭션 밖에서 요청된 이벤트는 바로 보낸다.
+ * 트랜잭션 안의 이벤트는 GameEventOutbox 에도 함께 기록되어, 커밋 뒤 발행 전에 노드가 죽어도 다시 발행된다.
+ * 재발행(relay)도 같은 방 스트라이프 잠금을 잡고 보내므로 커밋 뒤 발행과 섞이지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomEventDispatcher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final RoomStateBroadcaster roomStateBroadcaster;
+    private final GameEventOutbox gameEventOutbox;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.broadcast.coalesce-window-ms:0}")
+    private long coalesceWindowMs;
+
+    private TransactionTemplate stateTransaction;
+    private ScheduledExecutorService ticker;
+
+    // 방 스트라이프별 발행 순서 잠금
+    private final ReentrantLock[] roomLocks = new ReentrantLock[64];
+
+    // 틱 대기 중인 방 상태 갱신 (방 코드 -> 상태 공급자)
+    private final Map<String, Supplier<GameStateResponse>> pendingStates = new ConcurrentHashMap<>();
+
+    private Counter sentCounter;
+    private Counter coalescedCounter;
+    private Counter discardedCounter;
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < roomLocks.length; i++) {
+            roomLocks[i] = new ReentrantLock();
+        }
+
+        // 완료 콜백에서는 끝난 트랜잭션 자원이 아직 묶여 있으므로 상태는 새 읽기 전용 트랜잭션에서 만든다
+        stateTransaction = new TransactionTemplate(transactionManager);
+        stateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        stateTransaction.setReadOnly(true);
+
+        sentCounter = Counter.builder("liargame.dispatch.sent")
+                .description("디스패처가 보낸 방 토픽 메시지 수")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("liargame.dispatch.coalesced")
+                .description("다른 방 상태 갱신에 합쳐져 보내지 않은 갱신 요청 수")
+                .register(meterRegistry);
+        discardedCounter = Counter.builder("liargame.dispatch.discarded")
+                .description("트랜잭션 롤백으로 버려진 메시지 수")
+                .register(meterRegistry);
+
+        if (coalesceWindowMs > 0) {
+            ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "room-dispatch-tick");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleWithFixedDelay(this::flushPendingStates, coalesceWindowMs, coalesceWindowMs,
+                    TimeUnit.MILLISECONDS);
+            log.info("방 상태 브로드캐스트 묶음 전송: {}ms 주기", coalesceWindowMs);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdown();
+        }
+    }
+
+    /**
+     * 방 토픽으로 이벤트 전송 (트랜잭션 안이면 커밋 뒤)
+     */
+    public void send(String roomCode, GameMessage message) {
+        Batch batch = currentBatch();
+        if (batch == null) {
+            sendNow(new GameEventOutbox.Event(roomCode, null, message));
+            return;
+        }
+        batch.room(roomCode).events.add(new GameEventOutbox.Event(roomCode, null, message));
+    }
+
+    /**
+     * 방의 한 플레이어 개인 큐로 이벤트 전송 (트랜잭션 안이면 방 이벤트와 같은 순서로 커밋 뒤)
+     */
+    public void sendToUser(String roomCode, String user, String destination, GameMessage message) {
+        GameEventOutbox.Event event = new GameEventOutbox.Event(roomCode, "/user/" + user + destination, message);
+        Batch batch = currentBatch();
+        if (batch == null) {
+            sendNow(event);
+            return;
+        }
+        batch.room(roomCode).events.add(event);
+    }
+
+    /**
+     * 방 상태 갱신 요청 (트랜잭션 안이면 커밋 뒤에 한 번만)
+     * 상태는 보내는 시점에 공급자로 만든다.
+     */
+    public void publishState(String roomCode, Supplier<GameStateResponse> state) {
+        Batch batch = currentBatch();
+        if (batch == null) {
+            dispatchState(roomCode, state, false);
+            return;
+        }
+        RoomEvents events = batch.room(roomCode);
+        if (events.state != null) {
+            coalescedCounter.increment();
+        }
+        events.state = state;
+    }
+
+    /**
+     * 현재 트랜잭션에서 요청된 방 상태 갱신 취소 (방 삭제 등)
+     */
+    public void cancelState(String roomCode) {
+        pendingStates.remove(roomCode);
+        Batch batch = currentBatch();
+        if (batch != null) {
+            RoomEvents events = batch.rooms.get(roomCode);
+            if (events != null) {
+                events.state = null;
+            }
+        }
+    }
+
+    /**
+     * 커밋 뒤 발행되지 못하고 아웃박스에 남은 이벤트 재발행
+     * 방 스트라이프 잠금 안에서 행을 지운 경우에만 보내, 같은 방의 커밋 뒤 발행과 순서가 섞이지 않게 한다.
+     */
+    @Scheduled(fixedDelayString = "${liargame.outbox.relay-interval-ms:5000}",
+            initialDelayString = "${liargame.outbox.relay-interval-ms:5000}")
+    public void relayOutbox() {
+        if (!gameEventOutbox.isEnabled()) {
+            return;
+        }
+        int relayed = 0;
+        for (GameEventOutbox.StaleEvent event : gameEventOutbox.findStale()) {
+            ReentrantLock lock = roomLocks[stripeOf(event.event().roomCode())];
+            lock.lock();
+            try {
+                if (gameEventOutbox.claim(event.eventId())) {
+                    sendNow(event.event());
+                    relayed++;
+                }
+            } catch (Exception e) {
+                log.error("아웃박스 이벤트 {} 재발행 실패: {}", event.eventId(), e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (relayed > 0) {
+            log.info("아웃박스 미발행 이벤트 {}건 재발행", relayed);
+        }
+    }
+
+    private Batch currentBatch() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            Batch created = new Batch();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // REQUIRES_NEW 로 중첩된 트랜잭션은 자기 묶음을 따로 가진다
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoomEventDispatcher.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(RoomEventDispatcher.this, created);
+                }
+
+                // 이벤트를 같은 트랜잭션으로 아웃박스에 기록 (커밋되지 않은 이벤트는 발행되지 않는다)
+                // 커밋부터 이벤트 발행까지 방 스트라이프 잠금을 잡아, 같은 방의 이벤트가 커밋 순서대로 나가게 한다
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    lockRooms(created);
+                    List<GameEventOutbox.Event> events = created.events();
+                    created.outboxIds = gameEventOutbox.append(events);
+                    for (int i = 0; i < created.outboxIds.size(); i++) {
+                        events.get(i).message().setEventId(created.outboxIds.get(i));
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    flushEvents(created);
+                    gameEventOutbox.markPublished(created.outboxIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    // 발행하지 못한 커밋된 이벤트는 relay 에 맡긴다
+                    gameEventOutbox.release(created.outboxIds);
+                    unlockRooms(created);
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoomEventDispatcher.this);
+                    if (status != STATUS_COMMITTED) {
+                        discardedCounter.increment(created.size());
+                        return;
+                    }
+                    // 방 상태는 LiveRoom 잠금을 잡으므로 스트라이프 잠금을 푼 뒤에 만든다 (예약 전환과의 교착 방지)
+                    flushStates(created);
+                }
+            });
+            batch = created;
+        }
+        return batch;
+    }
+
+    // 여러 방을 건드린 트랜잭션끼리 교착되지 않도록 스트라이프 번호 순서로 잠근다
+    private void lockRooms(Batch batch) {
+        int[] stripes = batch.rooms.entrySet().stream()
+                .filter(room -> !room.getValue().events.isEmpty())
+                .mapToInt(room -> stripeOf(room.getKey()))
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int stripe : stripes) {
+            roomLocks[stripe].lock();
+            batch.lockedStripes.add(stripe);
+        }
+    }
+
+    private int stripeOf(String roomCode) {
+        return Math.floorMod(roomCode.hashCode(), roomLocks.length);
+    }
+
+    private void unlockRooms(Batch batch) {
+        for (int i = batch.lockedStripes.size() - 1; i >= 0; i--) {
+            roomLocks[batch.lockedStripes.get(i)].unlock();
+        }
+        batch.lockedStripes.clear();
+    }
+
+    private void flushEvents(Batch batch) {
+        batch.rooms.values().forEach(events -> events.events.forEach(this::sendNow));
+    }
+
+    private void flushStates(Batch batch) {
+        batch.rooms.forEach((roomCode, events) -> {
+            if (events.state != null) {
+                dispatchState(roomCode, events.state, true);
+            }
+        });
+    }
+
+    private void dispatchState(String roomCode, Supplier<GameStateResponse> state, boolean afterCompletion) {
+        if (ticker != null) {
+            if (pendingStates.put(roomCode, state) != null) {
+                coalescedCounter.increment();
+            }
+            return;
+        }
+        publishStateNow(roomCode, state, afterCompletion);
+    }
+
+    private void flushPendingStates() {
+        for (String roomCode : new ArrayList<>(pendingStates.keySet())) {
+            Supplier<GameStateResponse> state = pendingStates.remove(roomCode);
+            if (state != null) {
+                publishStateNow(roomCode, state, false);
+            }
+        }
+    }
+
+    private void publishStateNow(String roomCode, Supplier<GameStateResponse> state, boolean afterCompletion) {
+        try {
+            roomStateBroadcaster.publish(roomCode, afterCompletion
+                    ? () -> stateTransaction.execute(status -> state.get())
+                    : state);
+            sentCounter.increment();
+        } catch (Exception e) {
+            // 그 사이 방이 삭제된 경우 등
+            log.debug("방 {} 상태 브로드캐스트 생략: {}", roomCode, e.getMessage());
+        }
+    }
+
+    private void sendNow(GameEventOutbox.Event event) {
+        String destination = event.destination() != null ? event.destination() : "/topic/rooms/" + event.roomCode();
+        messagingTemplate.convertAndSend(destination, event.message());
+        sentCounter.increment();
+    }
+
+    // 트랜잭션 하나에서 모인 방별 이벤트 (요청 순서 유지)
+    private static final class Batch {
+        private final Map<String, RoomEvents> rooms = new LinkedHashMap<>();
+        private List<Long> outboxIds = List.of();
+        private final List<Integer> lockedStripes = new ArrayList<>();
+
+        RoomEvents room(String roomCode) {
+            return rooms.computeIfAbsent(roomCode, code -> new RoomEvents());
+        }
+
+        // 아웃박스에 기록할 이벤트 (방별 요청 순서, 방 상태 갱신은 커밋 뒤 새로 만들므로 제외)
+        List<GameEventOutbox.Event> events() {
+            List<GameEventOutbox.Event> all = new ArrayList<>();
+            rooms.values().forEach(events -> all.addAll(events.events));
+            return all;
+        }
+
+        int size() {
+            return rooms.values().stream()
+                    .mapToInt(events -> events.events.size() + (events.state != null ? 1 : 0))
+                    .sum();
+        }
+    }
+
+    private static final class RoomEvents {
+        private final List<GameEventOutbox.Event> events = new ArrayList<>();
+        private Supplier<GameStateResponse> state;
+    }
+}
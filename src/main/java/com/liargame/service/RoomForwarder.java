@@ -0,0 +1,80 @@
+package com.liargame.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 방을 소유하지 않은 노드에 들어온 요청을 소유 노드로 전달
+ * 받은 노드는 FORWARDED_HEADER 를 보고 링을 다시 계산하지 않고 바로 처리한다.
+ * 전달 요청에는 PEER_SECRET_HEADER 로 공유 비밀을 실어, 받은 노드가 클러스터 밖의 요청을 거절할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomForwarder {
+
+    public static final String FORWARDED_HEADER = "X-Liargame-Forwarded-By";
+    public static final String PEER_SECRET_HEADER = "X-Liargame-Peer-Secret";
+
+    private final ClusterMembership clusterMembership;
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    @Value("${liargame.cluster.forward-timeout-ms:5000}")
+    private long forwardTimeoutMs;
+
+    /**
+     * HTTP 요청을 그대로 전달하고 응답을 돌려준다
+     */
+    public HttpResponse<byte[]> forward(RoomOwnership.Route route, String method, String pathAndQuery,
+                                        String contentType, byte[] body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(route.baseUrl() + pathAndQuery))
+                .timeout(Duration.ofMillis(forwardTimeoutMs))
+                .header(FORWARDED_HEADER, clusterMembership.getNodeId())
+                .header(PEER_SECRET_HEADER, clusterMembership.getPeerSecret())
+                .method(method, body == null || body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * STOMP 로 들어온 게임 액션을 소유 노드의 내부 엔드포인트로 전달 - 실패하면 IllegalStateException
+     */
+    public void forwardAction(RoomOwnership.Route route, String roomCode, String action, Map<String, Object> payload) {
+        try {
+            HttpResponse<byte[]> response = forward(route, "POST", "/internal/rooms/" + roomCode + "/" + action,
+                    "application/json", objectMapper.writeValueAsBytes(payload));
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("방 소유 노드에서 요청을 처리하지 못했습니다: " + response.statusCode());
+            }
+            log.debug("방 {} {} 요청을 노드 {} 로 전달", roomCode, action, route.nodeId());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("전달할 메시지를 직렬화하지 못했습니다", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("방 소유 노드에 연결하지 못했습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 전달이 중단되었습니다", e);
+        }
+    }
+}
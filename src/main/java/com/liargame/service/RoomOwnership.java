@@ -0,0 +1,309 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.RoomLease;
+import com.liargame.domain.repository.RoomLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 소유권 임대
+ * 방 하나의 게임 로직은 room_lease 에 살아 있는 임대를 가진 노드 한 곳에서만 실행한다.
+ * 임대가 없으면 일관 해시 링의 주인 노드가 조건부 UPDATE 로 임대를 얻고, 이미 임대가 있으면 링이 바뀌어도 그 노드에 남는다.
+ * 주인 노드는 lease-ttl 보다 짧은 주기로 임대를 갱신하며, 노드가 죽으면 임대가 만료된 뒤 링의 다음 노드가 넘겨받는다.
+ * 임대를 잃은 노드가 늦게 DB 를 쓰지 않도록 예약 전환은 실행 직전에 임대를 다시 확인하고,
+ * write-behind 는 반영 트랜잭션 안에서 임대 행을 잠가 확인한 방의 쓰기만 반영한다.
+ * 노드 시계가 lease-ttl 보다 충분히 작은 오차로 맞춰져 있다고 가정한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomOwnership {
+
+    private static final Route LOCAL = new Route(true, null, null);
+
+    private final RoomLeaseRepository roomLeaseRepository;
+    private final ClusterMembership clusterMembership;
+    private final LiveRoomStore liveRoomStore;
+    private final LiveRoomWriteBehind writeBehind;
+    private final RoomScheduler roomScheduler;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.cluster.lease-ttl-ms:15000}")
+    private long leaseTtlMs;
+
+    // 이 시간 동안 요청이 없던 방의 임대는 갱신하지 않고 반납
+    @Value("${liargame.cluster.lease-idle-ms:1800000}")
+    private long leaseIdleMs;
+
+    // 이 노드가 가진 임대: 방 코드 -> 만료/마지막 사용 시각
+    private final ConcurrentHashMap<String, Held> held = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+    private Counter acquiredCounter;
+    private Counter lostCounter;
+    private Counter renewFailedCounter;
+
+    /**
+     * 요청을 처리할 곳 - local 이면 이 노드, 아니면 nodeId/baseUrl 로 전달
+     */
+    public record Route(boolean local, String nodeId, String baseUrl) {
+    }
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("liargame.cluster.leases", held, Map::size)
+                .description("이 노드가 가진 방 임대 수")
+                .register(meterRegistry);
+        acquiredCounter = Counter.builder("liargame.cluster.leases.acquired")
+                .description("새로 얻은 방 임대 수")
+                .register(meterRegistry);
+        lostCounter = Counter.builder("liargame.cluster.leases.lost")
+                .description("갱신하지 못해 잃은 방 임대 수")
+                .register(meterRegistry);
+        renewFailedCounter = Counter.builder("liargame.cluster.leases.renew-failed")
+                .description("방 임대 갱신 실패 횟수")
+                .register(meterRegistry);
+
+        writeBehind.setLeaseFence(this::lockLiveLeases);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!clusterMembership.isEnabled() || held.isEmpty()) {
+            return;
+        }
+        // 정상 종료 시 임대를 반납해 다른 노드가 만료를 기다리지 않고 넘겨받게 한다
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    roomLeaseRepository.release(clusterMembership.getNodeId(), held.keySet()));
+        } catch (Exception e) {
+            log.warn("방 임대 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 방 요청을 어느 노드가 처리할지 결정하고, 이 노드가 맡아야 하면 임대를 확보한다.
+     * 임대를 가진 노드가 응답하지 않는 상태(전환 중)면 IllegalStateException
+     */
+    public Route route(String roomCode) {
+        if (!clusterMembership.isEnabled() || holds(roomCode)) {
+            return LOCAL;
+        }
+
+        String self = clusterMembership.getNodeId();
+        String owner = roomLeaseRepository.findLiveOwner(roomCode, LocalDateTime.now())
+                .orElseGet(() -> clusterMembership.ownerOf(roomCode));
+        if (!owner.equals(self)) {
+            String url = clusterMembership.urlOf(owner);
+            if (url == null) {
+                throw new IllegalStateException("방 소유 노드가 전환 중입니다. 잠시 후 다시 시도해주세요");
+            }
+            return new Route(false, owner, url);
+        }
+
+        if (!acquire(roomCode)) {
+            throw new IllegalStateException("방 소유권을 얻지 못했습니다. 잠시 후 다시 시도해주세요");
+        }
+        return LOCAL;
+    }
+
+    /**
+     * 다른 노드가 전달한 요청 - 링을 다시 보지 않고 임대만 확보한다 (전달이 노드 사이를 맴돌지 않도록)
+     */
+    public void acquireForwarded(String roomCode) {
+        if (!clusterMembership.isEnabled() || holds(roomCode)) {
+            return;
+        }
+        if (!acquire(roomCode)) {
+            throw new IllegalStateException("방 소유권을 얻지 못했습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    /**
+     * 이 노드가 방 로직을 실행해도 되는지 - 클러스터 모드가 아니거나 믿을 수 있는 임대를 가진 경우
+     * 예약 전환처럼 요청 없이 실행되는 작업이 실행 직전에 확인한다.
+     */
+    public boolean canRun(String roomCode) {
+        return !clusterMembership.isEnabled() || holds(roomCode);
+    }
+
+    /**
+     * 방 정리 대상 중 다른 노드가 살아 있는 임대를 가진 방
+     */
+    public Set<String> leasedElsewhere(Collection<String> roomCodes) {
+        if (!clusterMembership.isEnabled() || roomCodes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(roomLeaseRepository.findLeasedElsewhere(
+                roomCodes, clusterMembership.getNodeId(), LocalDateTime.now()));
+    }
+
+    // write-behind 반영 트랜잭션 안에서 호출 - 살아 있는 임대 행을 잠그고, 임대가 없는 방을 돌려준다
+    private Set<String> lockLiveLeases(Collection<String> roomCodes) {
+        if (!clusterMembership.isEnabled() || roomCodes.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> lost = new HashSet<>(roomCodes);
+        roomLeaseRepository.lockLiveLeases(clusterMembership.getNodeId(), roomCodes, LocalDateTime.now())
+                .forEach(lease -> lost.remove(lease.getRoomCode()));
+        return lost;
+    }
+
+    private boolean holds(String roomCode) {
+        Held lease = held.get(roomCode);
+        long now = System.currentTimeMillis();
+        // 만료 직전의 임대는 갱신 전까지 믿지 않는다 (다른 노드가 넘겨받기 시작할 수 있으므로)
+        if (lease != null && lease.expiresAt - leaseTtlMs / 3 > now) {
+            lease.lastUsed = now;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acquire(String roomCode) {
+        String self = clusterMembership.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(leaseTtlMs));
+
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (roomLeaseRepository.claim(roomCode, self, now, expiresAt) > 0) {
+                    return true;
+                }
+                if (roomLeaseRepository.existsById(roomCode)) {
+                    return false;
+                }
+                roomLeaseRepository.save(RoomLease.builder()
+                        .roomCode(roomCode)
+                        .ownerNode(self)
+                        .expiresAt(expiresAt)
+                        .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 처음 임대를 만든 경우
+            acquired = false;
+        }
+        if (!acquired) {
+            return false;
+        }
+
+        boolean newlyHeld = !held.containsKey(roomCode);
+        if (newlyHeld) {
+            // 이전 소유 기간에 남은 메모리 상태가 있으면 버리고 DB 에서 다시 적재
+            // (반영이 끝나지 않아 예외가 나면 임대를 기록하지 않아 다음 요청에서 다시 시도한다)
+            liveRoomStore.detach(roomCode);
+        }
+        long nowMillis = System.currentTimeMillis();
+        Held previous = held.put(roomCode, new Held(nowMillis + leaseTtlMs, nowMillis));
+        if (previous == null) {
+            acquiredCounter.increment();
+            log.info("방 {} 임대 획득: 노드 {}", roomCode, self);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${liargame.cluster.lease-renew-interval-ms:5000}")
+    public void renewLeases() {
+        if (!clusterMembership.isEnabled() || held.isEmpty()) {
+            return;
+        }
+        String self = clusterMembership.getNodeId();
+        long nowMillis = System.currentTimeMillis();
+
+        List<String> active = new ArrayList<>();
+        List<String> idle = new ArrayList<>();
+        held.forEach((code, lease) -> (lease.lastUsed + leaseIdleMs < nowMillis ? idle : active).add(code));
+
+        try {
+            if (!idle.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> roomLeaseRepository.release(self, idle));
+                idle.forEach(this::drop);
+                log.debug("사용하지 않는 방 임대 {}개 반납", idle.size());
+            }
+
+            if (!active.isEmpty()) {
+                LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(leaseTtlMs));
+                List<String> stillHeld = transactionTemplate.execute(status -> {
+                    roomLeaseRepository.renew(self, active, expiresAt);
+                    return roomLeaseRepository.findHeldCodes(self, active);
+                });
+                Set<String> renewed = new HashSet<>(stillHeld != null ? stillHeld : List.of());
+                long newExpiry = nowMillis + leaseTtlMs;
+                for (String code : active) {
+                    if (renewed.contains(code)) {
+                        Held lease = held.get(code);
+                        if (lease != null) {
+                            lease.expiresAt = newExpiry;
+                        }
+                    } else {
+                        // 갱신이 늦어 다른 노드가 넘겨받은 방 - 이 노드의 타이머와 메모리 상태를 내린다
+                        drop(code);
+                        lostCounter.increment();
+                        log.warn("방 {} 임대를 잃었습니다: 다른 노드가 넘겨받음", code);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            renewFailedCounter.increment();
+            log.warn("방 임대 갱신 실패: {}", e.getMessage());
+            dropUnconfirmed();
+        }
+    }
+
+    // 갱신하지 못한 채 holds() 가 더는 믿지 않는 구간에 들어선 임대는 내려놓는다 -
+    // 다른 노드가 넘겨받는 동안 이 노드의 타이머와 메모리 상태가 남아 있지 않도록 (다음 요청에서 다시 임대를 얻는다)
+    private void dropUnconfirmed() {
+        long now = System.currentTimeMillis();
+        held.forEach((code, lease) -> {
+            if (lease.expiresAt - leaseTtlMs / 3 <= now) {
+                drop(code);
+                lostCounter.increment();
+                log.warn("방 {} 임대를 갱신하지 못해 내려놓습니다", code);
+            }
+        });
+    }
+
+    private void drop(String roomCode) {
+        held.remove(roomCode);
+        roomScheduler.cancel(roomCode);
+        try {
+            liveRoomStore.detach(roomCode);
+        } catch (RuntimeException e) {
+            // 남은 메모리 상태는 다시 임대를 얻을 때 detach 로 버려진다
+            log.warn("방 {} 임대 반납 중 LiveRoom 해제 실패: {}", roomCode, e.getMessage());
+        }
+    }
+
+    private static final class Held {
+        volatile long expiresAt;
+        volatile long lastUsed;
+
+        Held(long expiresAt, long lastUsed) {
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.liargame.service;
+
+import com.liargame.config.WebSocketConfig;
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.repository.GameRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 종료되었거나 버려진 방을 주기적으로 삭제하는 정리 작업
+ * 상태별 TTL 이 지난 방을 room_id 키셋 페이지로 batch-size 개씩 고르고, 배치마다 RoomTeardown 의 벌크 삭제를 한 트랜잭션으로 실행한다.
+ * END 는 종료 시각 기준으로 무조건, LOBBY/ROUND 는 생성 시각 기준이되 아직 세션이 남은 방은 건너뛴다.
+ * 실행마다 상태별 삭제 방 수와 회수한 행 수를 로그와 liargame.reaper.* 지표로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomReaper {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final RoomTeardown roomTeardown;
+    private final LiveRoomStore liveRoomStore;
+    private final RoomScheduler roomScheduler;
+    private final RoomStateBroadcaster roomStateBroadcaster;
+    private final GameMetrics gameMetrics;
+    private final RoomOwnership roomOwnership;
+    private final WebSocketConfig webSocketConfig;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${liargame.reaper.batch-size:200}")
+    private int batchSize;
+
+    @Value("${liargame.reaper.end-ttl-ms:1800000}")
+    private long endTtlMs;
+
+    @Value("${liargame.reaper.lobby-ttl-ms:3600000}")
+    private long lobbyTtlMs;
+
+    @Value("${liargame.reaper.round-ttl-ms:21600000}")
+    private long roundTtlMs;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter rowsCounter;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        rowsCounter = Counter.builder("liargame.reaper.rows")
+                .description("방 정리로 삭제된 행 수 (모든 테이블 합계)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${liargame.reaper.interval-ms:300000}",
+            initialDelayString = "${liargame.reaper.interval-ms:300000}")
+    public void reap() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> roomsWithSessions = webSocketConfig.roomsWithSessions();
+
+        Result ended = reap(GameRoom.RoomState.END, Set.of(), afterId ->
+                gameRoomRepository.findEndedBefore(GameRoom.RoomState.END, now.minus(Duration.ofMillis(endTtlMs)),
+                        afterId, PageRequest.ofSize(batchSize)));
+        Result lobby = reap(GameRoom.RoomState.LOBBY, roomsWithSessions, afterId ->
+                gameRoomRepository.findCreatedBefore(GameRoom.RoomState.LOBBY, now.minus(Duration.ofMillis(lobbyTtlMs)),
+                        afterId, PageRequest.ofSize(batchSize)));
+        Result round = reap(GameRoom.RoomState.ROUND, roomsWithSessions, afterId ->
+                gameRoomRepository.findCreatedBefore(GameRoom.RoomState.ROUND, now.minus(Duration.ofMillis(roundTtlMs)),
+                        afterId, PageRequest.ofSize(batchSize)));
+
+        long rows = ended.rows + lobby.rows + round.rows;
+        if (ended.rooms + lobby.rooms + round.rooms > 0) {
+            log.info("방 정리 완료: END {}개, LOBBY {}개, ROUND {}개 삭제 (세션 남은 방 {}개 건너뜀), 회수 {}행, {}ms",
+                    ended.rooms, lobby.rooms, round.rooms, lobby.skipped + round.skipped, rows,
+                    System.currentTimeMillis() - startedAt);
+        } else {
+            log.debug("방 정리: 삭제할 방 없음 ({}ms)", System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // 키셋 페이지를 끝까지 따라가며 배치마다 벌크 삭제
+    private Result reap(GameRoom.RoomState state, Set<String> roomsWithSessions,
+                        Function<Long, List<GameRoomRepository.RoomKey>> nextBatch) {
+        Result result = new Result();
+        long afterId = 0;
+
+        while (true) {
+            List<GameRoomRepository.RoomKey> batch = nextBatch.apply(afterId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getRoomId();
+
+            // 클러스터 모드에서는 다른 노드가 임대를 가진(진행 중인) 방도 건너뛴다
+            Set<String> leasedElsewhere = roomOwnership.leasedElsewhere(
+                    batch.stream().map(GameRoomRepository.RoomKey::getCode).toList());
+
+            List<Long> roomIds = new ArrayList<>(batch.size());
+            for (GameRoomRepository.RoomKey key : batch) {
+                if (roomsWithSessions.contains(key.getCode()) || leasedElsewhere.contains(key.getCode())) {
+                    result.skipped++;
+                    continue;
+                }
+                // 메모리 상태와 예약 작업을 먼저 정리해 삭제 뒤에 되살아나지 않게 한다
+                try {
+                    liveRoomStore.detach(key.getCode());
+                } catch (RuntimeException e) {
+                    // 아직 반영 중인 쓰기가 있는 방은 다음 정리 때 다시 본다
+                    log.warn("방 {} 정리 보류: {}", key.getCode(), e.getMessage());
+                    result.skipped++;
+                    continue;
+                }
+                roomScheduler.cancel(key.getCode());
+                roomStateBroadcaster.forget(key.getCode());
+                gameMetrics.forgetRoom(key.getCode());
+                roomIds.add(key.getRoomId());
+            }
+
+            if (!roomIds.isEmpty()) {
+                try {
+                    Integer rows = transactionTemplate.execute(status -> roomTeardown.deleteRooms(roomIds));
+                    result.rooms += roomIds.size();
+                    result.rows += rows != null ? rows : 0;
+                    rowsCounter.increment(rows != null ? rows : 0);
+                    meterRegistry.counter("liargame.reaper.rooms", "state", state.name()).increment(roomIds.size());
+                } catch (Exception e) {
+                    log.error("방 정리 배치 삭제 실패: 상태 {}, {}개, 오류: {}", state, roomIds.size(), e.getMessage(), e);
+                }
+            }
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static final class Result {
+        private int rooms;
+        private int skipped;
+        private long rows;
+    }
+}
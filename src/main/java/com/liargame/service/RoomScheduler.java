@@ -0,0 +1,237 @@
+package com.liargame.service;
+
+import com.liargame.config.ThreadingMode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 방 단위 지연 전환 스케줄러 (해시드 타이밍 휠)
+ * 지연 작업마다 스레드를 재우지 않고, 틱 스레드 하나가 휠을 돌며 만료된 작업을 실행 워커로 넘긴다.
+ * 방 코드 해시로 실행 워커를 고정하므로 같은 방의 작업은 만료 순서대로 하나씩 실행되고,
+ * 각 작업은 자체 트랜잭션 안에서 실행된다. 방이 정리되면 cancel 로 남은 작업을 모두 취소한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomScheduler {
+
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadingMode threadingMode;
+
+    @Value("${liargame.scheduler.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${liargame.scheduler.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${liargame.scheduler.workers:2}")
+    private int workerCount;
+
+    // 가상 스레드 모드의 워커 수 - 워커가 JDBC 에서 대기해도 비용이 작으므로 방 분산을 넓힌다
+    @Value("${liargame.scheduler.virtual-workers:64}")
+    private int virtualWorkerCount;
+
+    private TransactionTemplate transactionTemplate;
+    private ArrayDeque<RoomTask>[] wheel;
+    private ExecutorService[] workers;
+    private Thread ticker;
+    private volatile boolean running = true;
+    private long tick;
+
+    // 틱 스레드만 휠을 만지도록 새 작업은 여기 쌓아 두었다가 다음 틱에 옮긴다
+    private final Queue<RoomTask> incoming = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, Set<RoomTask>> tasksByRoom = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        wheel = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+
+        workers = new ExecutorService[Math.max(1, threadingMode.isVirtual() ? virtualWorkerCount : workerCount)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(threadingMode.threadFactory("room-scheduler-" + i + "-"));
+        }
+
+        ticker = new Thread(this::runTicker, "room-scheduler-tick");
+        ticker.setDaemon(true);
+        ticker.start();
+        log.info("방 스케줄러 시작: 틱 {}ms, 휠 {}칸, 워커 {}개", tickMs, wheelSize, workers.length);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        ticker.interrupt();
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        for (ExecutorService worker : workers) {
+            try {
+                worker.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * delayMs 이후 방 작업 실행 예약
+     * 같은 방에서 먼저 만료되는 작업이 먼저 실행되며, 만료 시각이 같으면 예약 순서를 따른다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 휠에 넣고, 롤백되면 버린다 (커밋 전 상태를 보고 실행되지 않도록).
+     * 커밋 전이라도 cancel 대상에는 바로 포함된다.
+     */
+    public void schedule(String roomCode, long delayMs, Runnable action) {
+        long ticks = Math.max(1, (delayMs + tickMs - 1) / tickMs);
+        RoomTask task = new RoomTask(roomCode, ticks, action);
+        tasksByRoom.compute(roomCode, (code, tasks) -> {
+            Set<RoomTask> result = tasks != null ? tasks : ConcurrentHashMap.newKeySet();
+            result.add(task);
+            return result;
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incoming.add(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                incoming.add(task);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    task.cancelled = true;
+                    forget(task);
+                }
+            }
+        });
+    }
+
+    // 방의 대기 중인 작업을 모두 취소 (방 삭제, 게임 중단 등)
+    public int cancel(String roomCode) {
+        Set<RoomTask> tasks = tasksByRoom.remove(roomCode);
+        if (tasks == null) {
+            return 0;
+        }
+        tasks.forEach(task -> task.cancelled = true);
+        if (!tasks.isEmpty()) {
+            log.debug("방 {} 예약 작업 {}건 취소", roomCode, tasks.size());
+        }
+        return tasks.size();
+    }
+
+    public int pendingCount() {
+        return tasksByRoom.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void runTicker() {
+        long nextTickAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMs);
+        while (running) {
+            long sleepNanos = nextTickAt - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            try {
+                transferIncoming();
+                expireBucket(wheel[(int) (tick % wheelSize)]);
+            } catch (Exception e) {
+                log.error("방 스케줄러 틱 처리 오류: {}", e.getMessage(), e);
+            }
+            tick++;
+            nextTickAt += TimeUnit.MILLISECONDS.toNanos(tickMs);
+        }
+    }
+
+    private void transferIncoming() {
+        RoomTask task;
+        while ((task = incoming.poll()) != null) {
+            if (task.cancelled) {
+                continue;
+            }
+            // 현재 틱 칸은 이번 틱에 처리되므로 만료까지 남은 틱 수만큼 앞의 칸에 넣는다
+            long deadlineTick = tick + task.delayTicks - 1;
+            task.rounds = (deadlineTick - tick) / wheelSize;
+            wheel[(int) (deadlineTick % wheelSize)].add(task);
+        }
+    }
+
+    private void expireBucket(ArrayDeque<RoomTask> bucket) {
+        Iterator<RoomTask> it = bucket.iterator();
+        while (it.hasNext()) {
+            RoomTask task = it.next();
+            if (task.cancelled) {
+                it.remove();
+            } else if (task.rounds <= 0) {
+                it.remove();
+                dispatch(task);
+            } else {
+                task.rounds--;
+            }
+        }
+    }
+
+    private void dispatch(RoomTask task) {
+        ExecutorService worker = workers[Math.floorMod(task.roomCode.hashCode(), workers.length)];
+        worker.execute(() -> {
+            forget(task);
+            if (task.cancelled) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> task.action.run());
+            } catch (Exception e) {
+                log.error("방 {} 예약 작업 실행 실패: {}", task.roomCode, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void forget(RoomTask task) {
+        tasksByRoom.computeIfPresent(task.roomCode, (code, tasks) -> {
+            tasks.remove(task);
+            return tasks.isEmpty() ? null : tasks;
+        });
+    }
+
+    private static final class RoomTask {
+        private final String roomCode;
+        private final long delayTicks;
+        private final Runnable action;
+        private volatile boolean cancelled;
+        private long rounds;
+
+        RoomTask(String roomCode, long delayTicks, Runnable action) {
+            this.roomCode = roomCode;
+            this.delayTicks = delayTicks;
+            this.action = action;
+        }
+    }
+}
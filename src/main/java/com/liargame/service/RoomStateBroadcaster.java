@@ -0,0 +1,186 @@
+package com.liargame.service;
+
+import com.liargame.domain.dto.GameStateResponse;
+import com.liargame.domain.dto.RoomStateDelta;
+import com.liargame.websocket.GameMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 방 상태 브로드캐스트를 순번이 붙은 델타로 전송
+ * 방마다 마지막으로 보낸 상태와 순번을 기억해 두고, 처음이면 전체 상태(ROOM_STATE_UPDATE),
+ * 이후에는 바뀐 부분만(ROOM_STATE_DELTA) 보낸다. 순번이 끊긴 클라이언트는 REST 로 전체 상태를 다시 받는다.
+ * 순번과 마지막 상태는 이 JVM 에만 있으므로, 브로커 중계나 클러스터 모드에서는 델타 없이 항상 전체 상태를 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStateBroadcaster {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ClusterMembership clusterMembership;
+
+    @Value("${liargame.broker.mode:simple}")
+    private String brokerMode;
+
+    private final Map<String, RoomStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * 방 상태 전송 - 상태는 방 전송 잠금 아래에서 만들어, 늦게 만든 상태가 먼저 나가지 않게 한다
+     */
+    public void publish(String roomCode, Supplier<GameStateResponse> current) {
+        if (fullStateOnly()) {
+            messagingTemplate.convertAndSend("/topic/rooms/" + roomCode,
+                    GameMessage.of("ROOM_STATE_UPDATE", roomCode, current.get()));
+            return;
+        }
+
+        RoomStream stream = streams.computeIfAbsent(roomCode, code -> new RoomStream());
+
+        // 순번 증가와 전송을 방 단위로 묶어, 같은 방의 메시지가 순번 순서대로 나가게 한다
+        // (relay 모드에서는 전송이 소켓 쓰기까지 갈 수 있으므로 synchronized 대신 ReentrantLock)
+        stream.lock.lock();
+        try {
+            send(roomCode, stream, current.get());
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    /**
+     * REST 로 내려줄 전체 상태와 순번을 방 전송 잠금 아래에서 함께 구성
+     * 마지막 전송 이후 바뀐 내용이 있으면 먼저 다음 순번으로 전송해, 응답의 상태와 순번이 항상 맞게 한다.
+     */
+    public GameStateResponse snapshot(String roomCode, Supplier<GameStateResponse> current) {
+        if (fullStateOnly()) {
+            return current.get();
+        }
+
+        RoomStream stream = streams.computeIfAbsent(roomCode, code -> new RoomStream());
+        stream.lock.lock();
+        try {
+            GameStateResponse state = current.get();
+            state.setStateSeq(stream.seq);
+            if (stream.last == null) {
+                // 아직 전송한 적 없는 방 - 이 상태를 순번 0 의 기준으로 삼는다
+                stream.last = state;
+            } else if (!state.equals(stream.last)) {
+                send(roomCode, stream, state);
+            }
+            return state;
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    // stream.lock 을 잡은 상태에서 호출
+    private void send(String roomCode, RoomStream stream, GameStateResponse state) {
+        long baseSeq = stream.seq;
+        long seq = baseSeq + 1;
+        GameStateResponse previous = stream.last;
+
+        state.setStateSeq(seq);
+        stream.seq = seq;
+        stream.last = state;
+
+        GameMessage message;
+        if (previous == null) {
+            message = GameMessage.of("ROOM_STATE_UPDATE", roomCode, state);
+        } else {
+            message = GameMessage.of("ROOM_STATE_DELTA", roomCode, diff(previous, state, baseSeq, seq));
+        }
+        messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, message);
+    }
+
+    private boolean fullStateOnly() {
+        return clusterMembership.isEnabled() || "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    // 방이 삭제되면 기억하던 상태를 버린다
+    public void forget(String roomCode) {
+        streams.remove(roomCode);
+    }
+
+    private RoomStateDelta diff(GameStateResponse before, GameStateResponse after, long baseSeq, long seq) {
+        Map<String, Object> changes = new HashMap<>();
+        putIfChanged(changes, "roomState", before.getRoomState(), after.getRoomState());
+        putIfChanged(changes, "maxPlayers", before.getMaxPlayers(), after.getMaxPlayers());
+        putIfChanged(changes, "roundLimit", before.getRoundLimit(), after.getRoundLimit());
+        putIfChanged(changes, "currentRound", before.getCurrentRound(), after.getCurrentRound());
+        putIfChanged(changes, "themeGroup", before.getThemeGroup(), after.getThemeGroup());
+        putIfChanged(changes, "roundState", before.getRoundState(), after.getRoundState());
+        putIfChanged(changes, "roundStartedAt", before.getRoundStartedAt(), after.getRoundStartedAt());
+        putIfChanged(changes, "remainingSeconds", before.getRemainingSeconds(), after.getRemainingSeconds());
+        putIfChanged(changes, "accusedPlayerId", before.getAccusedPlayerId(), after.getAccusedPlayerId());
+
+        // 플레이어: 추가/변경은 해당 플레이어만, 퇴장은 ID 만
+        Map<Long, GameStateResponse.PlayerInfo> beforePlayers = indexPlayers(before.getPlayers());
+        Map<Long, GameStateResponse.PlayerInfo> afterPlayers = indexPlayers(after.getPlayers());
+
+        List<GameStateResponse.PlayerInfo> upserted = afterPlayers.values().stream()
+                .filter(p -> !p.equals(beforePlayers.get(p.getPlayerId())))
+                .collect(Collectors.toList());
+        List<Long> removed = beforePlayers.keySet().stream()
+                .filter(id -> !afterPlayers.containsKey(id))
+                .collect(Collectors.toList());
+
+        // 발언: 같은 라운드에서 뒤에 붙은 것만 보낸다
+        List<GameStateResponse.MessageInfo> beforeMessages = nullToEmpty(before.getMessages());
+        List<GameStateResponse.MessageInfo> afterMessages = nullToEmpty(after.getMessages());
+        boolean appendOnly = Objects.equals(before.getCurrentRound(), after.getCurrentRound())
+                && afterMessages.size() >= beforeMessages.size()
+                && afterMessages.subList(0, beforeMessages.size()).equals(beforeMessages);
+
+        RoomStateDelta.RoomStateDeltaBuilder builder = RoomStateDelta.builder()
+                .seq(seq)
+                .baseSeq(baseSeq)
+                .changes(changes.isEmpty() ? null : changes)
+                .playersUpserted(upserted.isEmpty() ? null : upserted)
+                .playersRemoved(removed.isEmpty() ? null : removed);
+
+        if (appendOnly) {
+            List<GameStateResponse.MessageInfo> added = afterMessages.subList(beforeMessages.size(), afterMessages.size());
+            builder.messagesAdded(added.isEmpty() ? null : new ArrayList<>(added));
+        } else {
+            builder.messagesReset(true).messagesAdded(afterMessages);
+        }
+
+        if (!Objects.equals(before.getVotes(), after.getVotes())) {
+            builder.votes(nullToEmpty(after.getVotes()));
+        }
+
+        return builder.build();
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            changes.put(field, after);
+        }
+    }
+
+    private static Map<Long, GameStateResponse.PlayerInfo> indexPlayers(List<GameStateResponse.PlayerInfo> players) {
+        return nullToEmpty(players).stream()
+                .collect(Collectors.toMap(GameStateResponse.PlayerInfo::getPlayerId, Function.identity(),
+                        (a, b) -> b, LinkedHashMap::new));
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+
+    private static final class RoomStream {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long seq;
+        private GameStateResponse last;
+    }
+}
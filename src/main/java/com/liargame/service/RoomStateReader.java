@@ -0,0 +1,93 @@
+package com.liargame.service;
+
+import com.liargame.domain.dto.GameStateResponse;
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.Player;
+import com.liargame.domain.entity.Round;
+import com.liargame.domain.repository.GameRoomRepository;
+import com.liargame.domain.repository.MessageLogRepository;
+import com.liargame.domain.repository.PlayerRepository;
+import com.liargame.domain.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+
+/**
+ * DB 에서 방 상태(GameStateResponse)를 읽는 전용 경로
+ * 방+테마+현재 라운드, 플레이어, 득표(대상 닉네임 포함), 발언(작성자 포함)을 각각 한 번씩만 조회하므로
+ * 인원이나 발언 수와 관계없이 최대 4번의 쿼리로 끝난다. 방 코드는 첫 조회에서 room_id 로 바꾸고 이후는 room_id/round_id 로만 찾는다.
+ * 메모리에 없는 방(대기실 등)에서 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomStateReader {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final PlayerRepository playerRepository;
+    private final VoteRepository voteRepository;
+    private final MessageLogRepository messageLogRepository;
+
+    public GameStateResponse read(String roomCode) {
+        GameRoomRepository.RoomStateHeader header = gameRoomRepository.findStateHeaderByCode(roomCode)
+                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+
+        GameStateResponse.GameStateResponseBuilder builder = GameStateResponse.builder()
+                .roomCode(roomCode)
+                .roomState(header.getState())
+                .maxPlayers(header.getMaxPlayers())
+                .roundLimit(header.getRoundLimit())
+                .currentRound(header.getCurrentRound())
+                .themeGroup(header.getThemeGroup())
+                .createdAt(header.getCreatedAt())
+                .players(playerRepository.findActiveByRoomId(header.getRoomId()).stream()
+                        .map(RoomStateReader::toPlayerInfo)
+                        .collect(Collectors.toList()));
+
+        if (header.getState() == GameRoom.RoomState.ROUND && header.getRoundId() != null) {
+            Long roundId = header.getRoundId();
+            boolean isFinalVote = header.getRoundState() == Round.RoundState.FINAL_DEFENSE;
+
+            builder.roundState(header.getRoundState())
+                    .roundStartedAt(header.getRoundStartedAt())
+                    .accusedPlayerId(header.getAccusedPlayerId());
+
+            builder.votes(voteRepository.countVotesWithTargetByRoundId(roundId, isFinalVote).stream()
+                    .map(v -> GameStateResponse.VoteInfo.builder()
+                            .targetPlayerId(v.getTargetPlayerId())
+                            .targetNickname(v.getTargetNickname())
+                            .voteCount(v.getVoteCount().intValue())
+                            .isFinalVote(isFinalVote)
+                            .build())
+                    .collect(Collectors.toList()));
+
+            builder.messages(messageLogRepository.findViewsByRoundId(roundId).stream()
+                    .map(m -> GameStateResponse.MessageInfo.builder()
+                            .playerId(m.getPlayerId())
+                            .nickname(m.getNickname())
+                            .text(m.getText())
+                            .summary(m.getSummary())
+                            .type(m.getType() != null ? m.getType().name() : null)
+                            .createdAt(m.getCreatedAt())
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+
+        return builder.build();
+    }
+
+    static GameStateResponse.PlayerInfo toPlayerInfo(Player player) {
+        return GameStateResponse.PlayerInfo.builder()
+                .playerId(player.getPlayerId())
+                .nickname(player.getNickname())
+                .isHost(player.getIsHost())
+                .isAlive(player.getIsAlive())
+                .orderNo(player.getOrderNo())
+                .role(player.getRole() != null ? player.getRole().name() : null)
+                .cardWord(player.getCardWord())
+                .isCurrentTurn(false)
+                .build();
+    }
+}
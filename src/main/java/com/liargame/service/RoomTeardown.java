@@ -0,0 +1,147 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 정리 전용 삭제 경로
+ * 라운드/투표를 하나씩 읽어 지우지 않고 외래키 순서대로 테이블마다 벌크 DELETE 한 번씩만 실행하므로,
+ * 방 개수나 라운드 수와 관계없이 문장 수가 고정된다 (방 전체 6번, 라운드 데이터 3번).
+ * 방 전체 삭제는 요청 스레드를 막지 않도록 전용 스레드에서 별도 트랜잭션으로 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomTeardown {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final PlayerRepository playerRepository;
+    private final RoundRepository roundRepository;
+    private final VoteRepository voteRepository;
+    private final MessageLogRepository messageLogRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final LiveRoomWriteBehind writeBehind;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "room-teardown");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 방 전체 삭제를 백그라운드로 예약
+     * 호출한 트랜잭션이 커밋된 뒤 전용 스레드에서 실행하며, 그 방의 write-behind 쓰기를 먼저 반영한 뒤 지운다.
+     */
+    public void deleteRoomAsync(String roomCode, Long roomId) {
+        Runnable task = () -> {
+            try {
+                writeBehind.flush(roomCode);
+                Integer rows = transactionTemplate.execute(status -> deleteRooms(List.of(roomId)));
+                log.info("방 {} 삭제 완료: {}행", roomCode, rows);
+            } catch (Exception e) {
+                log.error("방 {} 삭제 실패: {}", roomCode, e.getMessage(), e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * 방들과 딸린 행 전체를 벌크 삭제 - 호출한 쪽 트랜잭션에서 실행되며 삭제한 행 수를 반환
+     */
+    public int deleteRooms(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        // vote/message_log 가 round/player 를 참조하므로 먼저 지운다
+        int rows = voteRepository.bulkDeleteByRoomIds(roomIds);
+        rows += messageLogRepository.bulkDeleteByRoomIds(roomIds);
+        rows += roundRepository.bulkDeleteByRoomIds(roomIds);
+        rows += auditLogRepository.bulkDeleteByRoomIds(roomIds);
+        rows += playerRepository.bulkDeleteByRoomIds(roomIds);
+        rows += gameRoomRepository.bulkDeleteByRoomIds(roomIds);
+        evictRoomCaches(roomIds);
+        return rows;
+    }
+
+    // 지운 방 코드가 다시 발급돼도 2차 캐시의 코드 -> room_id 매핑이 남지 않도록 트랜잭션이 끝난 뒤 비운다
+    // (자연 키 영역은 항목 단위 제거가 없어 영역 전체를 비운다)
+    private void evictRoomCaches(Collection<Long> roomIds) {
+        Runnable evict = () -> {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            roomIds.forEach(roomId -> cache.evictEntityData(GameRoom.class, roomId));
+            cache.evictNaturalIdData(GameRoom.class);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    /**
+     * 방의 라운드/투표/라운드 발언만 벌크 삭제 (게임 중단 후 대기실로 돌아갈 때)
+     * 같은 방에서 곧 새 라운드가 만들어질 수 있으므로 호출한 트랜잭션 안에서 바로 실행한다.
+     */
+    public int deleteRounds(Long roomId) {
+        List<Long> roomIds = List.of(roomId);
+        int rows = voteRepository.bulkDeleteByRoomIds(roomIds);
+        rows += messageLogRepository.bulkDeleteRoundMessagesByRoomIds(roomIds);
+        rows += roundRepository.bulkDeleteByRoomIds(roomIds);
+        return rows;
+    }
+}
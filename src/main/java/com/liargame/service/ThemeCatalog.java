@@ -0,0 +1,156 @@
+package com.liargame.service;
+
+import com.liargame.domain.entity.Theme;
+import com.liargame.domain.repository.ThemeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 테마 메모리 카탈로그
+ * 테마 그룹/언어/연령대/난이도 조합마다 테마 인덱스 배열을 미리 만들어 두고 배열에서 무작위로 고른다.
+ * 새로 고침은 새 스냅샷을 전부 만든 뒤 참조만 교체하므로, 조회 중인 요청은 항상 온전한 스냅샷을 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ThemeCatalog {
+
+    private final ThemeRepository themeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 첫 적재가 끝났는지 - 이후에는 테마가 비어 있어도 요청 스레드에서 다시 읽지 않고 주기 적재를 기다린다
+    private volatile boolean loaded;
+    // 첫 적재 전에 몰린 요청이 한 번만 읽도록 (JDBC 중 가상 스레드를 고정하지 않게 synchronized 대신 ReentrantLock)
+    private final ReentrantLock initialLoadLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    // 테마 데이터가 바뀌었을 수 있으므로 주기적으로 다시 적재
+    @Scheduled(fixedDelayString = "${liargame.theme-catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${liargame.theme-catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<Theme> themes = themeRepository.findByActiveTrue();
+        snapshot = Snapshot.of(themes);
+        loaded = true;
+        log.info("테마 카탈로그 적재: 활성 테마 {}개, 조합 {}개", themes.size(), snapshot.index.size());
+    }
+
+    /**
+     * 조건에 맞는 활성 테마 하나를 무작위로 선택 (null 인 조건은 전체)
+     */
+    public Optional<Theme> pickRandom(String themeGroup, String locale, String ageGroup, Integer difficulty) {
+        if (!loaded) {
+            // 기동 직후 첫 적재 전에 호출된 경우
+            loadIfNotLoaded();
+        }
+        Snapshot current = snapshot;
+
+        int[] candidates = current.index.get(new FilterKey(themeGroup, locale, ageGroup, difficulty));
+        if (candidates == null || candidates.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(current.themes[candidates[ThreadLocalRandom.current().nextInt(candidates.length)]]);
+    }
+
+    public Optional<Theme> pickRandom() {
+        return pickRandom(null, null, null, null);
+    }
+
+    public Set<String> getThemeGroups() {
+        return snapshot.groups;
+    }
+
+    public int size() {
+        return snapshot.themes.length;
+    }
+
+    private void loadIfNotLoaded() {
+        initialLoadLock.lock();
+        try {
+            if (!loaded) {
+                refresh();
+            }
+        } finally {
+            initialLoadLock.unlock();
+        }
+    }
+
+    // null 은 "조건 없음"
+    private record FilterKey(String themeGroup, String locale, String ageGroup, Integer difficulty) {
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new Theme[0], Map.of(), Set.of());
+
+        final Theme[] themes;
+        final Map<FilterKey, int[]> index;
+        final Set<String> groups;
+
+        private Snapshot(Theme[] themes, Map<FilterKey, int[]> index, Set<String> groups) {
+            this.themes = themes;
+            this.index = index;
+            this.groups = groups;
+        }
+
+        static Snapshot of(List<Theme> activeThemes) {
+            Theme[] themes = activeThemes.toArray(new Theme[0]);
+
+            // 테마마다 네 조건 각각을 지정/미지정한 16개 조합에 등록
+            Map<FilterKey, IntList> building = new HashMap<>();
+            Set<String> groups = new TreeSet<>();
+            for (int i = 0; i < themes.length; i++) {
+                Theme t = themes[i];
+                if (t.getThemeGroup() != null) {
+                    groups.add(t.getThemeGroup());
+                }
+                for (int mask = 0; mask < 16; mask++) {
+                    // 값이 없는 조건을 지정한 조합은 미지정 조합과 같으므로 중복 등록하지 않는다
+                    if (((mask & 1) != 0 && t.getThemeGroup() == null)
+                            || ((mask & 2) != 0 && t.getLocale() == null)
+                            || ((mask & 4) != 0 && t.getAgeGroup() == null)
+                            || ((mask & 8) != 0 && t.getDifficulty() == null)) {
+                        continue;
+                    }
+                    FilterKey key = new FilterKey(
+                            (mask & 1) != 0 ? t.getThemeGroup() : null,
+                            (mask & 2) != 0 ? t.getLocale() : null,
+                            (mask & 4) != 0 ? t.getAgeGroup() : null,
+                            (mask & 8) != 0 ? t.getDifficulty() : null);
+                    building.computeIfAbsent(key, k -> new IntList()).add(i);
+                }
+            }
+
+            Map<FilterKey, int[]> index = new HashMap<>(building.size() * 2);
+            building.forEach((key, list) -> index.put(key, list.toArray()));
+            return new Snapshot(themes, index, Collections.unmodifiableSet(groups));
+        }
+    }
+
+    // 수십만 개 테마에서도 박싱 없이 인덱스를 모으기 위한 가변 int 배열
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
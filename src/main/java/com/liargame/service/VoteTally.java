@@ -0,0 +1,154 @@
+package com.liargame.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 라운드 한 단계(일반 투표 또는 생존/사망 투표)의 증분 집계
+ * 투표가 들어올 때마다 대상별 득표, 최다 득표와 동률 수를 갱신하므로
+ * 완료 여부와 과반/최다/동점 판정에 조회나 정렬이 필요 없다.
+ * LiveRoom 과 같은 잠금 아래에서만 사용한다.
+ */
+public class VoteTally {
+
+    public enum Outcome {
+        NO_VOTES, MAJORITY, PLURALITY, TIE, NO_MAJORITY
+    }
+
+    private final int eligibleVoters;
+    private final Set<Long> voters = new HashSet<>();
+
+    // 대상 ID 별 득표 (방 인원이 12명 이하라 순차 탐색하는 병렬 배열이 가장 싸다)
+    private long[] targetIds = new long[8];
+    private int[] counts = new int[8];
+    private int targetCount;
+
+    private int totalVotes;
+    private int eliminateVotes;
+    private int surviveVotes;
+
+    private int topCount;
+    private int topTargets;
+    private long leaderId;
+
+    public VoteTally(int eligibleVoters) {
+        this.eligibleVoters = eligibleVoters;
+    }
+
+    public boolean hasVoted(Long voterId) {
+        return voters.contains(voterId);
+    }
+
+    /**
+     * 투표 반영 - 이미 투표한 플레이어면 false
+     */
+    public boolean record(Long voterId, Long targetId, String decision) {
+        if (!voters.add(voterId)) {
+            return false;
+        }
+        totalVotes++;
+
+        if ("ELIMINATE".equals(decision)) {
+            eliminateVotes++;
+        } else if ("SURVIVE".equals(decision)) {
+            surviveVotes++;
+        }
+
+        if (targetId != null) {
+            int count = increment(targetId);
+            // 득표는 늘기만 하므로 최다 득표/동률 수를 그 자리에서 갱신할 수 있다
+            if (count > topCount) {
+                topCount = count;
+                topTargets = 1;
+                leaderId = targetId;
+            } else if (count == topCount) {
+                topTargets++;
+            }
+        }
+        return true;
+    }
+
+    public boolean isComplete() {
+        return totalVotes >= eligibleVoters;
+    }
+
+    // 과반 기준: 투표 가능 인원의 절반 초과
+    public int requiredMajority() {
+        return (eligibleVoters / 2) + 1;
+    }
+
+    /**
+     * 일반 투표 판정
+     * 과반 득표자가 있으면 MAJORITY, 없으면 2표 이상 단독 최다 득표자가 PLURALITY,
+     * 최다 득표가 동률이면 TIE, 그 외는 NO_MAJORITY
+     */
+    public Outcome outcome() {
+        if (totalVotes == 0) {
+            return Outcome.NO_VOTES;
+        }
+        if (topCount >= requiredMajority()) {
+            return Outcome.MAJORITY;
+        }
+        if (topTargets > 1) {
+            return Outcome.TIE;
+        }
+        if (topCount >= 2) {
+            return Outcome.PLURALITY;
+        }
+        return Outcome.NO_MAJORITY;
+    }
+
+    public Long getLeaderId() {
+        return topCount > 0 ? leaderId : null;
+    }
+
+    public int getTopCount() {
+        return topCount;
+    }
+
+    public int getEligibleVoters() {
+        return eligibleVoters;
+    }
+
+    public int getTotalVotes() {
+        return totalVotes;
+    }
+
+    public int getEliminateVotes() {
+        return eliminateVotes;
+    }
+
+    public int getSurviveVotes() {
+        return surviveVotes;
+    }
+
+    // 득표한 대상 수와 인덱스별 조회 (처음 득표한 순서)
+    public int getTargetCount() {
+        return targetCount;
+    }
+
+    public long targetIdAt(int index) {
+        return targetIds[index];
+    }
+
+    public int countAt(int index) {
+        return counts[index];
+    }
+
+    private int increment(long targetId) {
+        for (int i = 0; i < targetCount; i++) {
+            if (targetIds[i] == targetId) {
+                return ++counts[i];
+            }
+        }
+        if (targetCount == targetIds.length) {
+            targetIds = Arrays.copyOf(targetIds, targetCount * 2);
+            counts = Arrays.copyOf(counts, targetCount * 2);
+        }
+        targetIds[targetCount] = targetId;
+        counts[targetCount] = 1;
+        targetCount++;
+        return 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.liargame.websocket;
+
+/**
+ * 브로드캐스트 한 건의 원본 GameMessage 와 그 CBOR 봉투
+ * GameMessageConverter 가 메시지 헤더로 싣고, simple 브로커가 구독자 메시지마다 헤더를 복사하므로
+ * 같은 브로드캐스트의 CBOR 세션들이 이 객체 하나를 공유한다. 처음 필요한 세션이 인코딩해 여기 둔다.
+ * 두 세션이 동시에 처음 인코딩하면 같은 결과를 두 번 만들 뿐이라 잠금 없이 volatile 로만 공유한다.
+ */
+public final class CborPayload {
+
+    public static final String HEADER = "liargame.cborPayload";
+
+    private final GameMessage message;
+    private volatile byte[] encoded;
+
+    public CborPayload(GameMessage message) {
+        this.message = message;
+    }
+
+    public GameMessage message() {
+        return message;
+    }
+
+    // 아직 인코딩하지 않았으면 null
+    public byte[] encoded() {
+        return encoded;
+    }
+
+    public void encoded(byte[] cbor) {
+        this.encoded = cbor;
+    }
+}
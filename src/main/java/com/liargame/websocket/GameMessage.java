@@ -1,5 +1,6 @@
 package com.liargame.websocket;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,10 @@ public class GameMessage {
     private String playerNickname;
     private Object data;
     private LocalDateTime timestamp;
+
+    // 아웃박스 이벤트 ID - 커밋 뒤 발행과 relay 재발행이 겹쳐도 클라이언트가 한 번만 처리하도록
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long eventId;
     
     public static GameMessage of(String type, String roomCode, Object data) {
         return GameMessage.builder()
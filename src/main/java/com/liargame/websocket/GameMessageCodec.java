@@ -0,0 +1,120 @@
+package com.liargame.websocket;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameMessage 바이너리(CBOR) 인코딩
+ * JSON 과 같은 내용을 [타입 코드, 방 코드, 플레이어 ID, 닉네임, data, 타임스탬프(epoch ms), 이벤트 ID] 배열 하나로 보낸다.
+ * 타입은 TYPES 의 인덱스(0~23 은 1바이트)로 보내고, 목록에 없는 타입은 문자열 그대로 보낸다.
+ * TYPES 는 game.js 의 GAME_MESSAGE_TYPES 와 순서가 같아야 하므로 항상 뒤에만 추가한다.
+ * 봉투는 GameMessage 객체에서 CBOR 생성기로 바로 쓴다 (data 는 애플리케이션 Jackson 설정을 따른 CBOR 매퍼로).
+ */
+public final class GameMessageCodec {
+
+    static final List<String> TYPES = List.of(
+            "ROOM_STATE_UPDATE", "ROOM_STATE_DELTA", "PLAYER_JOINED", "PLAYER_LEFT",
+            "GAME_STARTED", "DESC_UPDATE", "ALL_DESCRIPTIONS_COMPLETE", "ROUND_STATE",
+            "VOTE_UPDATE", "VOTE_RESULT", "FINAL_DEFENSE_UPDATE", "FINAL_DEFENSE_COMPLETE",
+            "FINAL_VOTE_RESULT", "ROUND_TRANSITION", "NEXT_ROUND_START", "GAME_END",
+            "GAME_INTERRUPTED", "NEW_HOST_ASSIGNED", "PERSONAL_HOST_NOTIFICATION", "ROOM_DELETED",
+            "ERROR", "ROOM_STATE_RESYNC");
+
+    public static final int ROOM_STATE_UPDATE_CODE = TYPES.indexOf("ROOM_STATE_UPDATE");
+    public static final int ROOM_STATE_DELTA_CODE = TYPES.indexOf("ROOM_STATE_DELTA");
+    public static final int ROOM_STATE_RESYNC_CODE = TYPES.indexOf("ROOM_STATE_RESYNC");
+
+    private static final Map<String, Integer> CODES = new HashMap<>();
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+
+    static {
+        for (int i = 0; i < TYPES.size(); i++) {
+            CODES.put(TYPES.get(i), i);
+        }
+    }
+
+    private GameMessageCodec() {
+    }
+
+    /**
+     * GameMessage 를 CBOR 봉투로 인코딩
+     * cbor 는 CBORFactory 로 만든 ObjectMapper - data 직렬화에 쓰인다.
+     */
+    public static byte[] encode(GameMessage message, ObjectMapper cbor) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = cbor.createGenerator(out)) {
+            // 길이를 알려 주면 정해진 길이 배열(0x87)로 쓴다 - typeCodeAt 이 이 첫 바이트를 본다
+            generator.writeStartArray(message, 7);
+
+            String type = message.getType();
+            Integer code = type != null ? CODES.get(type) : null;
+            if (code != null) {
+                generator.writeNumber(code);
+            } else {
+                generator.writeString(type);
+            }
+            generator.writeString(message.getRoomCode());
+            writeLong(generator, message.getPlayerId());
+            generator.writeString(message.getPlayerNickname());
+            generator.writeObject(message.getData());
+            // LocalDateTime 문자열 대신 epoch 밀리초 정수 (9바이트)
+            writeLong(generator, message.getTimestamp() != null
+                    ? message.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : null);
+            writeLong(generator, message.getEventId());
+
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 방 상태 재요청 신호 봉투 (클라이언트는 REST 로 전체 상태를 다시 받는다)
+     */
+    public static byte[] resyncCbor(String roomCode) throws IOException {
+        ArrayNode envelope = JsonNodeFactory.instance.arrayNode(7);
+        envelope.add(ROOM_STATE_RESYNC_CODE);
+        envelope.add(roomCode);
+        envelope.addNull();
+        envelope.addNull();
+        envelope.addNull();
+        envelope.add(System.currentTimeMillis());
+        envelope.addNull();
+        return CBOR.writeValueAsBytes(envelope);
+    }
+
+    private static void writeLong(JsonGenerator generator, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    /**
+     * CBOR 봉투의 타입 코드 (봉투가 아니거나 문자열 타입이면 -1)
+     */
+    public static int typeCodeAt(byte[] frame, int offset) {
+        if (offset + 1 >= frame.length || (frame[offset] & 0xFF) != 0x87) {
+            return -1;
+        }
+        int head = frame[offset + 1] & 0xFF;
+        if (head <= 0x17) {
+            return head;
+        }
+        if (head == 0x18 && offset + 2 < frame.length) {
+            return frame[offset + 2] & 0xFF;
+        }
+        return -1;
+    }
+}
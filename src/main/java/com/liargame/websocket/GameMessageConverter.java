@@ -0,0 +1,37 @@
+package com.liargame.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * GameMessage 전용 STOMP 메시지 변환기
+ * payload 는 기존과 같은 JSON 으로 만들고, 원본 GameMessage 를 CborPayload 헤더로 함께 실어
+ * CBOR 세션으로 나갈 때 JSON 을 다시 읽지 않고 객체에서 바로 인코딩하게 한다.
+ * 헤더는 JVM 안에서만 쓰이므로 relay 브로커를 거쳐 돌아온 메시지에는 없다.
+ */
+public class GameMessageConverter extends MappingJackson2MessageConverter {
+
+    public GameMessageConverter(ObjectMapper objectMapper) {
+        setObjectMapper(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return GameMessage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers, Object conversionHint) {
+        Message<?> message = super.toMessage(payload, headers, conversionHint);
+        if (message == null || !(payload instanceof GameMessage gameMessage)) {
+            return message;
+        }
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(CborPayload.HEADER, new CborPayload(gameMessage));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
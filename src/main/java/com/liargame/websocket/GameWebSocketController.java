@@ -1,8 +1,8 @@
 package com.liargame.websocket;
 
-import com.liargame.domain.entity.Player;
-import com.liargame.domain.repository.PlayerRepository;
 import com.liargame.service.GamePlayService;
+import com.liargame.service.RoomForwarder;
+import com.liargame.service.RoomOwnership;
 import com.liargame.config.WebSocketConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +21,10 @@ import java.util.Map;
 public class GameWebSocketController {
     
     private final GamePlayService gamePlayService;
-    private final PlayerRepository playerRepository;
     private final SimpMessageSendingOperations messagingTemplate;
     private final WebSocketConfig webSocketConfig;
+    private final RoomOwnership roomOwnership;
+    private final RoomForwarder roomForwarder;
 
     @MessageMapping("/rooms/{roomCode}/register")
     public void handleSessionRegister(@DestinationVariable String roomCode,
@@ -46,19 +47,15 @@ public class GameWebSocketController {
     @MessageMapping("/rooms/{roomCode}/desc")
     public void handleDescription(@DestinationVariable String roomCode, @Payload Map<String, Object> message) {
         try {
+            if (forwardIfRemote(roomCode, "desc", message)) {
+                return;
+            }
             Long playerId = Long.valueOf(message.get("playerId").toString());
             String text = message.get("text").toString();
             
+            // DESC_UPDATE 는 서비스가 커밋 뒤에 보낸다
             gamePlayService.submitDescription(roomCode, playerId, text);
             
-            Player player = playerRepository.findById(playerId).orElse(null);
-            String nickname = player != null ? player.getNickname() : "Unknown";
-            
-            GameMessage response = GameMessage.of("DESC_UPDATE", roomCode, playerId, nickname, 
-                    Map.of("text", text, "remainSec", 0));
-            
-            messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, response);
-            
         } catch (Exception e) {
             log.error("Error handling description: ", e);
             GameMessage errorResponse = GameMessage.of("ERROR", roomCode, 
@@ -70,23 +67,16 @@ public class GameWebSocketController {
     @MessageMapping("/rooms/{roomCode}/vote")
     public void handleVote(@DestinationVariable String roomCode, @Payload Map<String, Object> message) {
         try {
+            if (forwardIfRemote(roomCode, "vote", message)) {
+                return;
+            }
             Long voterId = Long.valueOf(message.get("voterId").toString());
             Long targetId = Long.valueOf(message.get("targetId").toString());
             Boolean isFinalVote = Boolean.valueOf(message.getOrDefault("isFinalVote", false).toString());
             
+            // VOTE_UPDATE 는 서비스가 커밋 뒤에 보낸다
             gamePlayService.submitVote(roomCode, voterId, targetId, isFinalVote);
             
-            Player voter = playerRepository.findById(voterId).orElse(null);
-            Player target = playerRepository.findById(targetId).orElse(null);
-            
-            GameMessage response = GameMessage.of("VOTE_UPDATE", roomCode, voterId, 
-                    voter != null ? voter.getNickname() : "Unknown",
-                    Map.of("targetId", targetId, 
-                           "targetNickname", target != null ? target.getNickname() : "Unknown",
-                           "isFinalVote", isFinalVote));
-            
-            messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, response);
-            
         } catch (Exception e) {
             log.error("Error handling vote: ", e);
             GameMessage errorResponse = GameMessage.of("ERROR", roomCode, 
@@ -98,19 +88,15 @@ public class GameWebSocketController {
     @MessageMapping("/rooms/{roomCode}/final-defense")
     public void handleFinalDefense(@DestinationVariable String roomCode, @Payload Map<String, Object> message) {
         try {
+            if (forwardIfRemote(roomCode, "final-defense", message)) {
+                return;
+            }
             Long playerId = Long.valueOf(message.get("playerId").toString());
             String text = message.get("text").toString();
             
+            // FINAL_DEFENSE_UPDATE 는 서비스가 커밋 뒤에 보낸다
             gamePlayService.submitFinalDefense(roomCode, playerId, text);
             
-            Player player = playerRepository.findById(playerId).orElse(null);
-            String nickname = player != null ? player.getNickname() : "Unknown";
-            
-            GameMessage response = GameMessage.of("FINAL_DEFENSE_UPDATE", roomCode, playerId, nickname,
-                    Map.of("text", text));
-            
-            messagingTemplate.convertAndSend("/topic/rooms/" + roomCode, response);
-            
         } catch (Exception e) {
             log.error("Error handling final defense: ", e);
             GameMessage errorResponse = GameMessage.of("ERROR", roomCode, 
@@ -119,6 +105,16 @@ public class GameWebSocketController {
         }
     }
     
+    // 다른 노드가 소유한 방이면 소유 노드로 전달 (브로드캐스트는 브로커를 거쳐 이 노드의 구독자에게도 온다)
+    private boolean forwardIfRemote(String roomCode, String action, Map<String, Object> message) {
+        RoomOwnership.Route route = roomOwnership.route(roomCode);
+        if (route.local()) {
+            return false;
+        }
+        roomForwarder.forwardAction(route, roomCode, action, message);
+        return true;
+    }
+
     public void broadcastRoundStateChange(String roomCode, String state, Object data) {
         GameMessage message = GameMessage.of("ROUND_STATE", roomCode, 
                 Map.of("state", state, "data", data));
@@ -15,10 +15,17 @@ CREATE TABLE theme (
 CREATE INDEX idx_theme_group ON theme(theme_group);
 CREATE INDEX idx_theme_active ON theme(active);
 
+-- 게임 중 대량으로 쓰는 테이블은 시퀀스로 ID 를 미리 50개씩 받아 INSERT 를 배치로 묶는다 (JPA allocationSize 와 같게)
+CREATE SEQUENCE game_room_seq INCREMENT BY 50;
+CREATE SEQUENCE player_seq INCREMENT BY 50;
+CREATE SEQUENCE round_seq INCREMENT BY 50;
+CREATE SEQUENCE vote_seq INCREMENT BY 50;
+CREATE SEQUENCE message_log_seq INCREMENT BY 50;
+
 -- 방
 CREATE TABLE game_room (
-    room_id        BIGSERIAL PRIMARY KEY,
-    code           VARCHAR(8) UNIQUE NOT NULL,
+    room_id        BIGINT PRIMARY KEY,
+    code           VARCHAR(8) NOT NULL,
     max_players    SMALLINT NOT NULL CHECK (max_players BETWEEN 3 AND 12),
     round_limit    SMALLINT NOT NULL CHECK (round_limit BETWEEN 1 AND 5), -- 기본 3
     state          VARCHAR(20) NOT NULL,      -- LOBBY / ROUND / END
@@ -27,13 +34,14 @@ CREATE TABLE game_room (
     created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     ended_at       TIMESTAMP,
     version        BIGINT DEFAULT 0,          -- 낙관적 락
-    CONSTRAINT fk_game_room_theme FOREIGN KEY (theme_id) REFERENCES theme(theme_id)
+    CONSTRAINT fk_game_room_theme FOREIGN KEY (theme_id) REFERENCES theme(theme_id),
+    CONSTRAINT uk_game_room_code UNIQUE (code)  -- 방 코드는 첫 조회에서만 쓰고 이후는 room_id 로 찾는다
 );
 CREATE INDEX idx_room_state ON game_room(state);
 
 -- 플레이어(세션)
 CREATE TABLE player (
-    player_id      BIGSERIAL PRIMARY KEY,
+    player_id      BIGINT PRIMARY KEY,
     room_id        BIGINT NOT NULL,
     user_id        BIGINT,                    -- 익명 도메인은 null 허용
     nickname       VARCHAR(20) NOT NULL,
@@ -46,11 +54,12 @@ CREATE TABLE player (
     left_at        TIMESTAMP,
     CONSTRAINT fk_player_room FOREIGN KEY (room_id) REFERENCES game_room(room_id) ON DELETE CASCADE
 );
-CREATE INDEX idx_player_room ON player(room_id);
+-- 현재 인원/생존자/닉네임 중복 조회: room_id 로 바로 찾는다 (game_room 조인 없음)
+CREATE INDEX idx_player_room_active ON player(room_id, left_at, is_alive);
 
 -- 라운드
 CREATE TABLE round (
-    round_id       BIGSERIAL PRIMARY KEY,
+    round_id       BIGINT PRIMARY KEY,
     room_id        BIGINT NOT NULL,
     idx            SMALLINT NOT NULL,         -- 1..round_limit
     state          VARCHAR(20) NOT NULL,      -- DESC/VOTE/FINAL_DEFENSE/JUDGE/END
@@ -58,13 +67,13 @@ CREATE TABLE round (
     ended_at       TIMESTAMP,
     accused_pid    BIGINT,                    -- 지목 대상(있다면)
     CONSTRAINT fk_round_room FOREIGN KEY (room_id) REFERENCES game_room(room_id) ON DELETE CASCADE,
-    UNIQUE(room_id, idx)
+    CONSTRAINT uk_round_room_idx UNIQUE (room_id, idx)
 );
 CREATE INDEX idx_round_state ON round(state);
 
 -- 투표
 CREATE TABLE vote (
-    vote_id        BIGSERIAL PRIMARY KEY,
+    vote_id        BIGINT PRIMARY KEY,
     round_id       BIGINT NOT NULL,
     voter_pid      BIGINT NOT NULL,
     target_pid     BIGINT NOT NULL,
@@ -73,9 +82,9 @@ CREATE TABLE vote (
     CONSTRAINT fk_vote_round FOREIGN KEY (round_id) REFERENCES round(round_id) ON DELETE CASCADE,
     CONSTRAINT fk_vote_voter FOREIGN KEY (voter_pid) REFERENCES player(player_id) ON DELETE CASCADE,
     CONSTRAINT fk_vote_target FOREIGN KEY (target_pid) REFERENCES player(player_id) ON DELETE CASCADE,
-    UNIQUE(round_id, voter_pid, is_final_vote)   -- 중복투표 방지
+    -- 중복투표 방지 겸 단계별 투표 조회/집계 인덱스 (round_id, is_final_vote 접두어)
+    CONSTRAINT uk_vote_round_final_voter UNIQUE (round_id, is_final_vote, voter_pid)
 );
-CREATE INDEX idx_vote_round_final ON vote(round_id, is_final_vote);
 
 -- 광고/수익
 CREATE TABLE ad_event (
@@ -103,7 +112,7 @@ CREATE INDEX idx_audit_room_time ON audit_log(room_id, created_at);
 
 -- 발언 로그(요약/AI 가공 대비)
 CREATE TABLE message_log (
-    msg_id         BIGSERIAL PRIMARY KEY,
+    msg_id         BIGINT PRIMARY KEY,
     room_id        BIGINT NOT NULL,
     round_id       BIGINT,
     player_id      BIGINT,
@@ -112,7 +121,8 @@ CREATE TABLE message_log (
     summary        VARCHAR(140),              -- 서버 요약(선택)
     created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
-CREATE INDEX idx_msg_room_round ON message_log(room_id, round_id);
+CREATE INDEX idx_msg_round_type_player ON message_log(round_id, type, player_id);  -- 라운드 발언 조회
+CREATE INDEX idx_msg_room ON message_log(room_id);                                -- 방 삭제
 
 -- 자기 투표 방지 트리거 함수 (H2 호환)
 -- CREATE OR REPLACE FUNCTION prevent_self_vote()
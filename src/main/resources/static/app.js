@@ -23,6 +23,8 @@ const AppState = {
     countdownTimer: null,
     currentModal: null,
     finalDefenseCompleted: false, // 최후진술 완료 여부 추적
+    roomStateSeq: null, // 마지막으로 적용한 방 상태 순번 (ROOM_STATE_DELTA 기준)
+    roomStateSnapshot: null, // 델타를 적용할 전체 방 상태
 };
 
 // 초기화
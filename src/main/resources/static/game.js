@@ -375,11 +375,29 @@ function showRoomNotFoundModal() {
     returnToMainScreen();
 }
 
-// WebSocket 연결
-async function connectWebSocket() {
+// 바이너리(CBOR) 메시지 형식 - 네이티브 WebSocket 에서만 사용 (SockJS 는 텍스트 프레임만 전달)
+const WIRE_FORMAT_HEADER = 'liargame-format';
+
+// 서버 GameMessageCodec.TYPES 와 같은 순서 (뒤에만 추가)
+const GAME_MESSAGE_TYPES = [
+    'ROOM_STATE_UPDATE', 'ROOM_STATE_DELTA', 'PLAYER_JOINED', 'PLAYER_LEFT',
+    'GAME_STARTED', 'DESC_UPDATE', 'ALL_DESCRIPTIONS_COMPLETE', 'ROUND_STATE',
+    'VOTE_UPDATE', 'VOTE_RESULT', 'FINAL_DEFENSE_UPDATE', 'FINAL_DEFENSE_COMPLETE',
+    'FINAL_VOTE_RESULT', 'ROUND_TRANSITION', 'NEXT_ROUND_START', 'GAME_END',
+    'GAME_INTERRUPTED', 'NEW_HOST_ASSIGNED', 'PERSONAL_HOST_NOTIFICATION', 'ROOM_DELETED',
+    'ERROR', 'ROOM_STATE_RESYNC'
+];
+
+function supportsBinaryWireFormat() {
+    return typeof WebSocket !== 'undefined' && typeof TextDecoder !== 'undefined'
+        && localStorage.getItem('liargame.wireFormat') !== 'json';
+}
+
+// WebSocket 연결 (네이티브 WebSocket + CBOR 를 먼저 시도하고, 실패하면 SockJS + JSON)
+async function connectWebSocket(useBinary = supportsBinaryWireFormat()) {
     return new Promise((resolve, reject) => {
         try {
-            console.log('WebSocket 연결 시도...');
+            console.log('WebSocket 연결 시도...', useBinary ? '(CBOR)' : '(JSON)');
             
             // 기존 연결이 있다면 정리
             if (AppState.stompClient && AppState.isConnected) {
@@ -388,24 +406,66 @@ async function connectWebSocket() {
                 AppState.isConnected = false;
             }
             
-            const socket = new SockJS('/ws');
-            AppState.stompClient = Stomp.over(socket);
+            if (useBinary) {
+                const protocol = location.protocol === 'https:' ? 'wss:' : 'ws:';
+                AppState.stompClient = StompJs.Stomp.over(() => new WebSocket(`${protocol}//${location.host}/ws-native`));
+            } else {
+                AppState.stompClient = StompJs.Stomp.over(() => new SockJS('/ws'));
+            }
+            // 재연결은 앱에서 직접 처리
+            AppState.stompClient.reconnect_delay = 0;
             
             // 디버그 로그 활성화 (문제 해결을 위해)
             AppState.stompClient.debug = function(str) {
                 console.log('STOMP: ' + str);
             };
             
+            let settled = false;
+            
             // 연결 타임아웃 설정
             const connectionTimeout = setTimeout(() => {
                 console.error('WebSocket 연결 타임아웃');
+                settled = true;
                 AppState.isConnected = false;
                 reject(new Error('WebSocket 연결 시간이 초과되었습니다.'));
             }, 10000); // 10초 타임아웃
             
-            AppState.stompClient.connect({}, 
+            const onFailure = function(error) {
+                clearTimeout(connectionTimeout);
+                AppState.isConnected = false;
+                if (settled) {
+                    return;
+                }
+                settled = true;
+                
+                // 네이티브 WebSocket 이 막힌 환경(프록시 등)이면 SockJS + JSON 으로 다시 연결
+                if (useBinary) {
+                    console.warn('네이티브 WebSocket 연결 실패, SockJS 로 재시도:', error);
+                    AppState.stompClient.deactivate();
+                    connectWebSocket(false).then(resolve, reject);
+                    return;
+                }
+                console.error('WebSocket 연결 실패:', error);
+                
+                // 상세한 오류 메시지 제공
+                let errorMessage = 'WebSocket 연결에 실패했습니다.';
+                if (error && error.toString) {
+                    const errorStr = error.toString();
+                    if (errorStr.includes('404')) {
+                        errorMessage = '서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.';
+                    } else if (errorStr.includes('timeout')) {
+                        errorMessage = '연결 시간이 초과되었습니다. 네트워크 연결을 확인해주세요.';
+                    }
+                }
+                
+                reject(new Error(errorMessage));
+            };
+            
+            const headers = useBinary ? { [WIRE_FORMAT_HEADER]: 'cbor' } : {};
+            AppState.stompClient.connect(headers, 
                 function(frame) {
                     clearTimeout(connectionTimeout);
+                    settled = true;
                     console.log('WebSocket 연결 성공: ' + frame);
                     AppState.isConnected = true;
 
@@ -417,23 +477,14 @@ async function connectWebSocket() {
 
                     resolve();
                 },
-                function(error) {
-                    clearTimeout(connectionTimeout);
-                    console.error('WebSocket 연결 실패:', error);
-                    AppState.isConnected = false;
-                    
-                    // 상세한 오류 메시지 제공
-                    let errorMessage = 'WebSocket 연결에 실패했습니다.';
-                    if (error && error.toString) {
-                        const errorStr = error.toString();
-                        if (errorStr.includes('404')) {
-                            errorMessage = '서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.';
-                        } else if (errorStr.includes('timeout')) {
-                            errorMessage = '연결 시간이 초과되었습니다. 네트워크 연결을 확인해주세요.';
-                        }
+                onFailure,
+                function(closeEvent) {
+                    // 연결된 뒤 끊긴 경우는 연결 상태만 갱신
+                    if (settled) {
+                        AppState.isConnected = false;
+                        return;
                     }
-                    
-                    reject(new Error(errorMessage));
+                    onFailure(closeEvent && closeEvent.code ? `WebSocket closed (${closeEvent.code})` : closeEvent);
                 }
             );
         } catch (error) {
@@ -448,7 +499,10 @@ function subscribeToRoom() {
     if (AppState.stompClient && AppState.isConnected && AppState.roomInfo.code) {
         // 방별 토픽 구독
         AppState.stompClient.subscribe(`/topic/rooms/${AppState.roomInfo.code}`, function(message) {
-            const data = JSON.parse(message.body);
+            const data = parseGameMessage(message);
+            if (isDuplicateEvent(data)) {
+                return;
+            }
             handleWebSocketMessage(data);
         });
         
@@ -457,6 +511,149 @@ function subscribeToRoom() {
     }
 }
 
+// 아웃박스 재발행으로 같은 이벤트가 두 번 올 수 있으므로 최근 이벤트 ID 로 걸러낸다
+const SEEN_EVENT_LIMIT = 500;
+const seenEventIds = new Set();
+
+function isDuplicateEvent(data) {
+    if (data.eventId === undefined || data.eventId === null) {
+        return false;
+    }
+    if (seenEventIds.has(data.eventId)) {
+        console.log('중복 이벤트 무시:', data.eventId);
+        return true;
+    }
+    seenEventIds.add(data.eventId);
+    if (seenEventIds.size > SEEN_EVENT_LIMIT) {
+        // Set 은 삽입 순서를 유지하므로 가장 오래된 ID 부터 지운다
+        seenEventIds.delete(seenEventIds.values().next().value);
+    }
+    return false;
+}
+
+// STOMP 메시지 본문 -> GameMessage (CBOR 헤더가 있으면 바이너리 봉투, 아니면 JSON)
+function parseGameMessage(message) {
+    if (message.headers[WIRE_FORMAT_HEADER] !== 'cbor') {
+        return JSON.parse(message.body);
+    }
+    // [타입 코드, 방 코드, 플레이어 ID, 닉네임, data, 타임스탬프(epoch ms), 이벤트 ID]
+    const envelope = decodeCbor(message.binaryBody);
+    const type = typeof envelope[0] === 'number' ? GAME_MESSAGE_TYPES[envelope[0]] : envelope[0];
+    return {
+        type: type,
+        roomCode: envelope[1],
+        playerId: envelope[2],
+        playerNickname: envelope[3],
+        data: envelope[4],
+        timestamp: envelope[5],
+        eventId: envelope[6]
+    };
+}
+
+// 최소 CBOR(RFC 8949) 디코더 - 서버가 쓰는 정수/문자열/배열/맵/실수/불리언/null 만 다룬다
+const cborTextDecoder = typeof TextDecoder !== 'undefined' ? new TextDecoder() : null;
+
+function decodeCbor(bytes) {
+    const view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+    let offset = 0;
+    const BREAK = Symbol('break');
+
+    function readLength(info) {
+        if (info < 24) return info;
+        if (info === 24) { const v = view.getUint8(offset); offset += 1; return v; }
+        if (info === 25) { const v = view.getUint16(offset); offset += 2; return v; }
+        if (info === 26) { const v = view.getUint32(offset); offset += 4; return v; }
+        if (info === 27) {
+            const hi = view.getUint32(offset);
+            const lo = view.getUint32(offset + 4);
+            offset += 8;
+            return hi * 4294967296 + lo;
+        }
+        if (info === 31) return -1; // 길이 미정
+        throw new Error('CBOR: 잘못된 길이 ' + info);
+    }
+
+    function readFloat16() {
+        const half = view.getUint16(offset);
+        offset += 2;
+        const exp = (half >> 10) & 0x1f;
+        const mant = half & 0x3ff;
+        const sign = half & 0x8000 ? -1 : 1;
+        if (exp === 0) return sign * Math.pow(2, -14) * (mant / 1024);
+        if (exp === 31) return mant ? NaN : sign * Infinity;
+        return sign * Math.pow(2, exp - 15) * (1 + mant / 1024);
+    }
+
+    function readChunks(majorType, length) {
+        if (length >= 0) {
+            const chunk = bytes.subarray(offset, offset + length);
+            offset += length;
+            return majorType === 3 ? cborTextDecoder.decode(chunk) : chunk;
+        }
+        // 길이 미정 문자열: 같은 타입의 조각들이 break 까지 이어진다
+        const parts = [];
+        for (let part = readItem(); part !== BREAK; part = readItem()) {
+            parts.push(part);
+        }
+        if (majorType === 3) return parts.join('');
+        const total = parts.reduce((sum, p) => sum + p.length, 0);
+        const joined = new Uint8Array(total);
+        let position = 0;
+        parts.forEach(p => { joined.set(p, position); position += p.length; });
+        return joined;
+    }
+
+    function readItem() {
+        const initial = view.getUint8(offset++);
+        const majorType = initial >> 5;
+        const info = initial & 0x1f;
+
+        if (majorType === 7) {
+            switch (info) {
+                case 20: return false;
+                case 21: return true;
+                case 22: return null;
+                case 23: return undefined;
+                case 25: return readFloat16();
+                case 26: { const v = view.getFloat32(offset); offset += 4; return v; }
+                case 27: { const v = view.getFloat64(offset); offset += 8; return v; }
+                case 31: return BREAK;
+                default: return info < 24 ? info : readLength(info);
+            }
+        }
+
+        const length = readLength(info);
+        switch (majorType) {
+            case 0: return length;
+            case 1: return -1 - length;
+            case 2:
+            case 3: return readChunks(majorType, length);
+            case 4: {
+                const array = [];
+                if (length >= 0) {
+                    for (let i = 0; i < length; i++) array.push(readItem());
+                } else {
+                    for (let item = readItem(); item !== BREAK; item = readItem()) array.push(item);
+                }
+                return array;
+            }
+            case 5: {
+                const object = {};
+                if (length >= 0) {
+                    for (let i = 0; i < length; i++) { const key = readItem(); object[key] = readItem(); }
+                } else {
+                    for (let key = readItem(); key !== BREAK; key = readItem()) object[key] = readItem();
+                }
+                return object;
+            }
+            case 6: return readItem(); // 태그는 무시하고 값만 사용
+        }
+        throw new Error('CBOR: 알 수 없는 타입 ' + majorType);
+    }
+
+    return readItem();
+}
+
 // WebSocket 메시지 처리
 function handleWebSocketMessage(data) {
     console.log('WebSocket 메시지 수신:', data);
@@ -470,6 +667,13 @@ function handleWebSocketMessage(data) {
         case 'ROOM_STATE_UPDATE':
             handleRoomStateUpdate(data);
             break;
+        case 'ROOM_STATE_DELTA':
+            handleRoomStateDelta(data);
+            break;
+        case 'ROOM_STATE_RESYNC':
+            // 연결이 밀려 서버가 보내지 못한 델타를 합쳐 버렸으므로 전체 상태를 다시 받는다
+            requestRoomStateSnapshot();
+            break;
         case 'GAME_STARTED':
             handleGameStarted(data);
             break;
@@ -568,10 +772,102 @@ function handleRoomStateUpdate(data) {
     console.log('방 상태 업데이트 수신:', data);
     
     if (data.data) {
+        rememberRoomStateSnapshot(data.data);
         updateRoomState(data.data);
     }
 }
 
+// 방 상태 델타 처리 - 순번이 이어지지 않으면 전체 상태를 다시 받는다
+function handleRoomStateDelta(data) {
+    const delta = data.data;
+    if (!delta) return;
+
+    // 다른 방(게임 종료 후 새 방 등)의 순번은 이어지지 않으므로 처음부터 다시 받는다
+    if (AppState.roomStateSnapshot && AppState.roomStateSnapshot.roomCode !== data.roomCode) {
+        AppState.roomStateSnapshot = null;
+        AppState.roomStateSeq = null;
+    }
+
+    if (AppState.roomStateSeq !== null && delta.seq <= AppState.roomStateSeq) {
+        // 이미 반영된 순번 (전체 상태를 받은 뒤 도착한 지난 델타)
+        return;
+    }
+
+    if (!AppState.roomStateSnapshot || AppState.roomStateSeq !== delta.baseSeq) {
+        console.warn('방 상태 순번 누락 감지:', AppState.roomStateSeq, '->', delta.seq);
+        requestRoomStateSnapshot();
+        return;
+    }
+
+    const merged = applyRoomStateDelta(AppState.roomStateSnapshot, delta);
+    rememberRoomStateSnapshot(merged);
+    updateRoomState(merged);
+}
+
+function rememberRoomStateSnapshot(state) {
+    if (AppState.roomStateSnapshot && AppState.roomStateSnapshot.roomCode !== state.roomCode) {
+        AppState.roomStateSeq = null;
+    }
+    if (state.stateSeq !== undefined && state.stateSeq !== null) {
+        AppState.roomStateSeq = state.stateSeq;
+    }
+    AppState.roomStateSnapshot = state;
+}
+
+function applyRoomStateDelta(snapshot, delta) {
+    const merged = { ...snapshot, ...(delta.changes || {}), stateSeq: delta.seq };
+
+    // 플레이어: 기존 순서를 유지하며 변경분만 교체, 새 플레이어는 뒤에 추가
+    let players = (snapshot.players || []).slice();
+    if (delta.playersRemoved) {
+        players = players.filter(p => !delta.playersRemoved.includes(p.playerId));
+    }
+    (delta.playersUpserted || []).forEach(player => {
+        const index = players.findIndex(p => p.playerId === player.playerId);
+        if (index >= 0) {
+            players[index] = player;
+        } else {
+            players.push(player);
+        }
+    });
+    merged.players = players;
+
+    if (delta.messagesReset) {
+        merged.messages = delta.messagesAdded || [];
+    } else if (delta.messagesAdded) {
+        merged.messages = (snapshot.messages || []).concat(delta.messagesAdded);
+    }
+
+    if (delta.votes) {
+        merged.votes = delta.votes;
+    }
+
+    return merged;
+}
+
+// 전체 방 상태 재요청 (동시에 여러 번 요청하지 않음)
+let roomStateSnapshotRequest = null;
+function requestRoomStateSnapshot() {
+    if (roomStateSnapshotRequest || !AppState.roomInfo?.code) {
+        return;
+    }
+
+    roomStateSnapshotRequest = fetch(`/api/rooms/${AppState.roomInfo.code}/state`)
+        .then(response => response.ok ? response.json() : null)
+        .then(state => {
+            if (!state) return;
+            // 요청 중에 더 새로운 델타를 이미 적용했다면 무시
+            if (AppState.roomStateSnapshot?.roomCode === state.roomCode
+                && AppState.roomStateSeq !== null && state.stateSeq < AppState.roomStateSeq) return;
+            rememberRoomStateSnapshot(state);
+            updateRoomState(state);
+        })
+        .catch(error => console.error('방 상태 재요청 실패:', error))
+        .finally(() => {
+            roomStateSnapshotRequest = null;
+        });
+}
+
 // 게임 시작 처리
 function handleGameStarted(data) {
     console.log('게임 시작:', data);
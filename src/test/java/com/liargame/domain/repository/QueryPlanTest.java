@@ -0,0 +1,130 @@
+package com.liargame.domain.repository;
+
+import com.liargame.domain.entity.MessageLog;
+import com.liargame.support.JdbcRecorder;
+import com.liargame.support.JdbcRecorder.RecordedStatement;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 경로에서 자주 도는 리포지토리 쿼리의 실행 계획 검사
+ * 리포지토리 메서드를 실제로 호출해 Hibernate 가 만든 SQL 과 바인딩 값을 DataSource 에서 가로채고,
+ * 같은 SQL 을 같은 값으로 EXPLAIN 해 기대한 인덱스 이름이 나오는지 본다.
+ * JPQL 이 조인/전체 스캔으로 바뀌거나 인덱스가 빠지면 해당 쿼리가 실패한다.
+ * 호출은 롤백되는 트랜잭션 안에서 하므로 벌크 삭제도 실제로 지우지 않는다.
+ */
+@SpringBootTest
+@Import(JdbcRecorder.class)
+class QueryPlanTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long ROUND_ID = 1L;
+    private static final Long PLAYER_ID = 1L;
+
+    @Autowired
+    private JdbcRecorder jdbcRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private GameRoomRepository gameRoomRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RoundRepository roundRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private MessageLogRepository messageLogRepository;
+
+    @TestFactory
+    Stream<DynamicTest> hotQueriesUseExpectedIndex() {
+        return Stream.of(
+                new PlannedQuery("game_room by code", "uk_game_room_code",
+                        () -> gameRoomRepository.findForCommandByCode("ABCD1234")),
+                new PlannedQuery("player active by room", "idx_player_room_active",
+                        () -> playerRepository.findActiveByRoomId(ROOM_ID)),
+                new PlannedQuery("player alive by room", "idx_player_room_active",
+                        () -> playerRepository.findAliveByRoomId(ROOM_ID)),
+                new PlannedQuery("player nickname in room", "idx_player_room_active",
+                        () -> playerRepository.existsActiveByRoomIdAndNickname(ROOM_ID, "bot")),
+                new PlannedQuery("round by room/idx", "uk_round_room_idx",
+                        () -> roundRepository.findByRoomIdAndIdx(ROOM_ID, 1)),
+                new PlannedQuery("vote by round/phase", "uk_vote_round_final_voter",
+                        () -> voteRepository.findByRoundRoundIdAndIsFinalVote(ROUND_ID, false)),
+                new PlannedQuery("vote by voter", "uk_vote_round_final_voter",
+                        () -> voteRepository.existsByRoundRoundIdAndVoterPlayerIdAndIsFinalVote(ROUND_ID, PLAYER_ID, false)),
+                new PlannedQuery("vote count by target", "uk_vote_round_final_voter",
+                        () -> voteRepository.countVotesByTargetAndRoundId(ROUND_ID, false)),
+                new PlannedQuery("message by round", "idx_msg_round_type_player",
+                        () -> messageLogRepository.findByRoundRoundIdOrderByCreatedAtAsc(ROUND_ID)),
+                new PlannedQuery("message by round/type", "idx_msg_round_type_player",
+                        () -> messageLogRepository.findByRoundIdAndType(ROUND_ID, MessageLog.MessageType.DESC)),
+                new PlannedQuery("message by room (teardown)", "idx_msg_room",
+                        () -> messageLogRepository.bulkDeleteByRoomIds(List.of(ROOM_ID))))
+                .map(query -> DynamicTest.dynamicTest(query.name(), () -> assertUsesIndex(query)));
+    }
+
+    private void assertUsesIndex(PlannedQuery query) {
+        RecordedStatement statement = captureFirstStatement(query);
+        String plan = explain(statement);
+        assertThat(plan.toLowerCase(Locale.ROOT))
+                .as("%s\nSQL: %s", query.name(), statement.sql())
+                .contains(query.expectedIndex());
+    }
+
+    // 리포지토리 호출이 처음 준비한 문장 - 뒤따르는 연관 엔티티 조회는 검사 대상이 아니다
+    private RecordedStatement captureFirstStatement(PlannedQuery query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<RecordedStatement> statements = transaction.execute(status -> {
+            status.setRollbackOnly();
+            return jdbcRecorder.record(query.call());
+        });
+        assertThat(statements).as("%s 가 SQL 을 실행하지 않았다", query.name()).isNotEmpty();
+        return statements.get(0);
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                statement.bindTo(explain);
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        if (!plan.isEmpty()) {
+                            plan.append('\n');
+                        }
+                        plan.append(rs.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private record PlannedQuery(String name, String expectedIndex, Runnable call) {
+    }
+}
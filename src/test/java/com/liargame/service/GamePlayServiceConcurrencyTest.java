@@ -0,0 +1,212 @@
+package com.liargame.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liargame.domain.dto.JoinRoomRequest;
+import com.liargame.domain.dto.RoomCreateRequest;
+import com.liargame.domain.entity.GameRoom;
+import com.liargame.domain.entity.Player;
+import com.liargame.domain.entity.Round;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 방에 투표/생존·사망 투표가 동시에 몰려도 단계는 한 번만 닫히는지 검사
+ * 플레이어마다 같은 투표를 두 번씩 보내고, 래치로 모든 요청을 한꺼번에 출발시킨다.
+ * 방 토픽으로 나간 메시지는 브로커 채널에서 가로채 종류별로 센다.
+ */
+@SpringBootTest
+class GamePlayServiceConcurrencyTest {
+
+    private static final int PLAYERS = 8;
+    private static final int ATTEMPTS_PER_PLAYER = 2;
+
+    @Autowired
+    private GameRoomService gameRoomService;
+
+    @Autowired
+    private GamePlayService gamePlayService;
+
+    @Autowired
+    private LiveRoomStore liveRoomStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("brokerChannel")
+    private AbstractSubscribableChannel brokerChannel;
+
+    private final List<Map<String, Object>> sent = new CopyOnWriteArrayList<>();
+    private final ChannelInterceptor recorder = new ChannelInterceptor() {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null && destination.startsWith("/topic/rooms/")
+                    && message.getPayload() instanceof byte[] json) {
+                try {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> body = objectMapper.readValue(json, Map.class);
+                    sent.add(body);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return message;
+        }
+    };
+
+    @BeforeEach
+    void recordBroadcasts() {
+        brokerChannel.addInterceptor(recorder);
+    }
+
+    @AfterEach
+    void stopRecording() {
+        brokerChannel.removeInterceptor(recorder);
+    }
+
+    @Test
+    void concurrentVotesCloseVotingOnce() throws Exception {
+        GameSetup game = startGame(3);
+        describeAllAndStartVoting(game);
+        sent.clear();
+
+        // 둘씩 서로 지목해 모두 1표 - 동점으로 다음 라운드로 넘어간다
+        int accepted = race(game.playerIds(), voterIndex -> gamePlayService.submitVote(game.roomCode(),
+                game.playerIds().get(voterIndex), game.playerIds().get(voterIndex ^ 1), false));
+
+        assertThat(accepted).isEqualTo(PLAYERS);
+        assertThat(count(game, "VOTE_UPDATE")).isEqualTo(PLAYERS);
+        assertThat(count(game, "VOTE_RESULT")).isEqualTo(1);
+        assertThat(count(game, "ROUND_TRANSITION")).isEqualTo(1);
+        assertThat(count(game, "NEXT_ROUND_START")).isEqualTo(1);
+
+        LiveRoom live = liveRoomStore.get(game.roomCode());
+        assertThat(live.getRoom().getCurrentRound()).isEqualTo(2);
+        assertThat(live.getCurrentRound().getIdx()).isEqualTo(2);
+        assertThat(live.getCurrentRound().getState()).isEqualTo(Round.RoundState.READY);
+    }
+
+    @Test
+    void concurrentFinalVotesEndGameOnce() throws Exception {
+        GameSetup game = startGame(3);
+        describeAllAndStartVoting(game);
+
+        // 모두 라이어를 지목 (라이어는 다른 사람에게 투표)
+        Long liarId = liveRoomStore.get(game.roomCode()).findLiar().map(Player::getPlayerId).orElseThrow();
+        Long otherId = game.playerIds().stream().filter(id -> !id.equals(liarId)).findFirst().orElseThrow();
+        for (Long voterId : game.playerIds()) {
+            gamePlayService.submitVote(game.roomCode(), voterId, voterId.equals(liarId) ? otherId : liarId, false);
+        }
+        gamePlayService.submitFinalDefense(game.roomCode(), liarId, "저는 라이어가 아닙니다");
+        gamePlayService.startFinalVoting(game.roomCode(), game.hostId());
+        sent.clear();
+
+        List<Long> voters = game.playerIds().stream().filter(id -> !id.equals(liarId)).toList();
+        int accepted = race(voters, voterIndex ->
+                gamePlayService.submitFinalVote(game.roomCode(), voters.get(voterIndex), "ELIMINATE"));
+
+        assertThat(accepted).isEqualTo(voters.size());
+        assertThat(count(game, "GAME_END")).isEqualTo(1);
+        assertThat(count(game, "NEXT_ROUND_START")).isZero();
+
+        LiveRoom live = liveRoomStore.get(game.roomCode());
+        assertThat(live.getRoom().getState()).isEqualTo(GameRoom.RoomState.END);
+        assertThat(live.getVoteTally(true).getTotalVotes()).isEqualTo(voters.size());
+    }
+
+    // 참가자마다 ATTEMPTS_PER_PLAYER 번씩 동시에 실행하고 성공한 요청 수를 반환
+    private int race(List<Long> participants, VoterAction action) throws Exception {
+        int tasks = participants.size() * ATTEMPTS_PER_PLAYER;
+        ExecutorService executor = Executors.newFixedThreadPool(tasks);
+        CountDownLatch ready = new CountDownLatch(tasks);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int voterIndex = i % participants.size();
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        action.run(voterIndex);
+                        return true;
+                    } catch (RuntimeException e) {
+                        // 중복 투표 등 거절된 요청
+                        return false;
+                    }
+                }));
+            }
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+            return accepted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private GameSetup startGame(int roundLimit) {
+        RoomCreateRequest create = new RoomCreateRequest();
+        create.setMaxPlayers(PLAYERS);
+        create.setRoundLimit(roundLimit);
+        String roomCode = gameRoomService.createRoom(create);
+
+        List<Long> playerIds = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            JoinRoomRequest join = new JoinRoomRequest();
+            join.setNickname("bot" + i);
+            playerIds.add(gameRoomService.joinRoom(roomCode, join).getPlayerId());
+        }
+        gameRoomService.startGame(roomCode, playerIds.get(0));
+        return new GameSetup(roomCode, playerIds.get(0), playerIds);
+    }
+
+    private void describeAllAndStartVoting(GameSetup game) {
+        for (Long playerId : game.playerIds()) {
+            gamePlayService.submitDescription(game.roomCode(), playerId, "설명 " + playerId);
+        }
+        gamePlayService.startVoting(game.roomCode());
+    }
+
+    private long count(GameSetup game, String type) {
+        return sent.stream()
+                .filter(message -> type.equals(message.get("type")) && game.roomCode().equals(message.get("roomCode")))
+                .count();
+    }
+
+    private record GameSetup(String roomCode, Long hostId, List<Long> playerIds) {
+    }
+
+    @FunctionalInterface
+    private interface VoterAction {
+        void run(int voterIndex);
+    }
+}
@@ -0,0 +1,136 @@
+package com.liargame.service;
+
+import com.liargame.domain.dto.JoinRoomRequest;
+import com.liargame.domain.dto.RoomCreateRequest;
+import com.liargame.domain.entity.Player;
+import com.liargame.support.JdbcRecorder;
+import com.liargame.support.JdbcRecorder.RecordedStatement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 라운드 시작 쓰기의 JDBC 배치/시퀀스 호출 수 검사
+ * 3명 방과 12명 방에서 각각 방 생성부터 게임 시작까지 실행하고, DataSource 에서 가로챈 문장으로
+ * SQL 종류별 executeBatch/addBatch 수와 시퀀스 호출 수를 센다.
+ * 시퀀스는 준비 실행이 시퀀스마다 첫 블록을 받은 뒤로는 allocationSize 50 안에서 끝나야 한다.
+ */
+@SpringBootTest
+@Import(JdbcRecorder.class)
+class RoundStartWriteBatchTest {
+
+    private static final int SMALL_ROOM = 3;
+    private static final int FULL_ROOM = 12;
+
+    private static final String PLAYER_UPDATE = "update player";
+    private static final String ROUND_INSERT = "insert round";
+
+    @Autowired
+    private JdbcRecorder jdbcRecorder;
+
+    @Autowired
+    private GameRoomService gameRoomService;
+
+    @Test
+    void roundStartWritesOneBatchPerTable() {
+        // 첫 실행은 테마 카탈로그 적재와 시퀀스 첫 블록 할당이 섞이므로 한 번 버린다
+        measureRoundStart(SMALL_ROOM);
+
+        Measurement small = measureRoundStart(SMALL_ROOM);
+        Measurement full = measureRoundStart(FULL_ROOM);
+
+        for (Measurement m : List.of(small, full)) {
+            assertThat(m.playerUpdate().batches()).as("%d명 플레이어 UPDATE 배치", m.players()).isEqualTo(1);
+            assertThat(m.playerUpdate().rows()).as("%d명 플레이어 UPDATE 배치 행", m.players()).isEqualTo(m.players());
+            assertThat(m.playerUpdate().singles()).as("%d명 플레이어 UPDATE 단건", m.players()).isZero();
+            assertThat(m.roundInsert().batches()).as("%d명 라운드 INSERT 배치", m.players()).isEqualTo(1);
+            assertThat(m.roundInsert().rows()).as("%d명 라운드 INSERT 배치 행", m.players()).isEqualTo(1);
+            assertThat(m.sequenceCalls()).as("%d명 시퀀스 호출", m.players()).isZero();
+        }
+        assertThat(full.statements())
+                .as("%d명 게임 시작 문장 수 (%d명 기준)", FULL_ROOM, SMALL_ROOM)
+                .isEqualTo(small.statements());
+    }
+
+    // 방을 만들고 인원을 채운 뒤 게임을 시작 - 시퀀스 호출은 전체, 나머지는 게임 시작 한 번만 센다
+    private Measurement measureRoundStart(int players) {
+        AtomicReference<RoomSetup> room = new AtomicReference<>();
+        List<RecordedStatement> setup = jdbcRecorder.record(() -> room.set(createAndFill(players)));
+        List<RecordedStatement> start = jdbcRecorder.record(() ->
+                gameRoomService.startGame(room.get().roomCode(), room.get().hostId()));
+
+        List<RecordedStatement> all = new ArrayList<>(setup);
+        all.addAll(start);
+        return new Measurement(players, start.size(), sequenceCalls(all),
+                countOf(start, PLAYER_UPDATE), countOf(start, ROUND_INSERT));
+    }
+
+    private RoomSetup createAndFill(int players) {
+        RoomCreateRequest create = new RoomCreateRequest();
+        create.setMaxPlayers(players);
+        create.setRoundLimit(1);
+        String roomCode = gameRoomService.createRoom(create);
+
+        Long hostId = null;
+        for (int i = 0; i < players; i++) {
+            JoinRoomRequest join = new JoinRoomRequest();
+            join.setNickname("bot" + i);
+            Player player = gameRoomService.joinRoom(roomCode, join);
+            if (hostId == null) {
+                hostId = player.getPlayerId();
+            }
+        }
+        return new RoomSetup(roomCode, hostId);
+    }
+
+    private static long sequenceCalls(List<RecordedStatement> statements) {
+        return statements.stream()
+                .map(statement -> statement.sql().toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.contains("nextval") || sql.contains("next value for"))
+                .count();
+    }
+
+    private static StatementCount countOf(List<RecordedStatement> statements, String kind) {
+        long batches = 0;
+        long rows = 0;
+        long singles = 0;
+        for (RecordedStatement statement : statements) {
+            if (kind.equals(kindOf(statement.sql()))) {
+                batches += statement.batches();
+                rows += statement.batchedRows();
+                singles += statement.singles();
+            }
+        }
+        return new StatementCount(batches, rows, singles);
+    }
+
+    // "update player set ..." -> "update player", "insert into round (...)" -> "insert round"
+    private static String kindOf(String sql) {
+        String[] words = sql.trim().toLowerCase(Locale.ROOT).replace("\"", "").replace("`", "").split("[\\s(]+");
+        if (words.length >= 3 && words[0].equals("insert")) {
+            return "insert " + words[2];
+        }
+        if (words.length >= 2 && words[0].equals("update")) {
+            return "update " + words[1];
+        }
+        return words[0];
+    }
+
+    private record RoomSetup(String roomCode, Long hostId) {
+    }
+
+    private record Measurement(int players, long statements, long sequenceCalls,
+                               StatementCount playerUpdate, StatementCount roundInsert) {
+    }
+
+    private record StatementCount(long batches, long rows, long singles) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.liargame.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 애플리케이션 DataSource 를 감싸 Hibernate 가 실제로 준비한 SQL 과 바인딩 값, 실행 방식을 기록한다
+ * 별도 프록시 라이브러리 없이 JDK 동적 프록시로 감싸며, {@link #record(Runnable)} 를 호출한 스레드의 문장만 모은다.
+ * 테스트에서 {@code @Import(JdbcRecorder.class)} 로 등록한다.
+ */
+public class JdbcRecorder implements BeanPostProcessor {
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return wrap(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection
+                            ? wrap(Connection.class, connection, this::onConnectionCall)
+                            : result);
+        }
+        return bean;
+    }
+
+    // work 를 실행하는 동안 이 스레드에서 준비된 문장을 순서대로 반환
+    public List<RecordedStatement> record(Runnable work) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            work.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    private Object onConnectionCall(Method method, Object[] args, Object result) {
+        List<RecordedStatement> statements = recording.get();
+        if (statements == null || !(result instanceof PreparedStatement statement)
+                || args == null || !(args[0] instanceof String sql)) {
+            return result;
+        }
+        RecordedStatement recorded = new RecordedStatement(sql);
+        statements.add(recorded);
+        return wrap(PreparedStatement.class, statement, (call, callArgs, callResult) -> {
+            switch (call.getName()) {
+                case "addBatch" -> recorded.batchedRows++;
+                case "executeBatch" -> recorded.batches++;
+                case "executeUpdate", "executeQuery", "execute" -> recorded.singles++;
+                default -> {
+                    // setLong(1, ..), setString(2, ..), setNull(3, ..) 처럼 위치가 첫 인자인 바인딩 호출
+                    if (call.getName().startsWith("set") && callArgs != null && callArgs.length >= 2
+                            && callArgs[0] instanceof Integer index) {
+                        recorded.parameters.put(index, new Binding(call, callArgs));
+                    }
+                }
+            }
+            return callResult;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, CallObserver observer) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            return observer.observe(method, args, result);
+        };
+        return (T) Proxy.newProxyInstance(JdbcRecorder.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface CallObserver {
+        Object observe(Method method, Object[] args, Object result);
+    }
+
+    /**
+     * 준비된 SQL 한 문장과 마지막으로 바인딩된 값, addBatch/executeBatch/단건 실행 횟수
+     */
+    public static final class RecordedStatement {
+        private final String sql;
+        private final Map<Integer, Binding> parameters = new TreeMap<>();
+        private int batchedRows;
+        private int batches;
+        private int singles;
+
+        private RecordedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        public int batchedRows() {
+            return batchedRows;
+        }
+
+        public int batches() {
+            return batches;
+        }
+
+        public int singles() {
+            return singles;
+        }
+
+        // 기록한 바인딩을 같은 위치에 다시 건다 (EXPLAIN 처럼 같은 자리표시자를 가진 다른 문장에)
+        public void bindTo(PreparedStatement target) throws SQLException {
+            for (Binding binding : parameters.values()) {
+                try {
+                    binding.method.invoke(target, binding.args);
+                } catch (InvocationTargetException e) {
+                    if (e.getTargetException() instanceof SQLException sqlException) {
+                        throw sqlException;
+                    }
+                    throw new IllegalStateException(e.getTargetException());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+}